@@ -4,7 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
 
-@ComponentScan(basePackages = {"com.admin", "com.storage.config"})
+@ComponentScan(basePackages = {"com.admin", "com.storage.config", "com.support"})
 @SpringBootApplication
 public class ApiAdminApplication {
 
@@ -3,6 +3,7 @@ package com.user.api;
 import com.storage.entity.Account;
 import com.storage.entity.User;
 import com.storage.repository.AccountRepository;
+import com.storage.repository.RefreshTokenRepository;
 import com.storage.repository.UserRepository;
 import com.user.E2eTestSupport;
 import com.user.dto.request.AccessTokenReissueRequest;
@@ -12,6 +13,7 @@ import com.user.support.fixture.dto.request.AccessTokenReissueRequestFixtureFact
 import com.user.support.fixture.dto.request.LoginRequestFixtureFactory;
 import com.user.support.fixture.dto.request.UserRegisterRequestFixtureFactory;
 import com.user.support.fixture.entity.AccountFixtureFactory;
+import com.user.support.fixture.entity.RefreshTokenFixtureFactory;
 import com.user.support.fixture.entity.UserFixtureFactory;
 import com.user.utils.token.JwtTokenProvider;
 import org.junit.jupiter.api.AfterEach;
@@ -30,7 +32,6 @@ import static com.user.enums.ErrorType.DUPLICATED_EMAIL;
 import static com.user.enums.ErrorType.INVALID_REQUEST;
 import static com.user.enums.ErrorType.LOGIN_FAIL;
 import static com.user.enums.ErrorType.UNAUTHORIZED_TOKEN;
-import static com.user.enums.ErrorType.USER_NOT_FOUND;
 import static com.user.enums.TokenType.REFRESH;
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
@@ -47,6 +48,9 @@ public class AuthApiTest extends E2eTestSupport {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
@@ -55,6 +59,7 @@ public class AuthApiTest extends E2eTestSupport {
 
     @AfterEach
     void tearDown() {
+        refreshTokenRepository.deleteAllInBatch();
         userRepository.deleteAllInBatch();
         accountRepository.deleteAllInBatch();
     }
@@ -295,8 +300,7 @@ public class AuthApiTest extends E2eTestSupport {
         userRepository.save(user);
 
         String refreshToken = jwtTokenProvider.generateToken(REFRESH, user.getId(), new Date());
-        user.setRefreshToken(refreshToken);
-        userRepository.save(user);
+        refreshTokenRepository.save(RefreshTokenFixtureFactory.create(user, refreshToken));
         AccessTokenReissueRequest request = AccessTokenReissueRequestFixtureFactory.create(refreshToken);
 
         given()
@@ -306,7 +310,51 @@ public class AuthApiTest extends E2eTestSupport {
                 .patch("/auth/access-token")
         .then()
                 .statusCode(200)
-                .body("accessToken", notNullValue());
+                .body("accessToken", notNullValue())
+                .body("refreshToken", notNullValue());
+    }
+
+    @Test
+    @DisplayName("엑세스 토큰 재발급 시 이미 사용된 리프레시 토큰으로 다시 시도하면 실패한다")
+    void reissueAccessTokenWithReusedRefreshToken() {
+        // given
+        Account account = AccountFixtureFactory.create(passwordEncoder, "password");
+        User user = UserFixtureFactory.create(account);
+        accountRepository.save(account);
+        userRepository.save(user);
+
+        String refreshToken = jwtTokenProvider.generateToken(REFRESH, user.getId(), new Date());
+        refreshTokenRepository.save(RefreshTokenFixtureFactory.create(user, refreshToken));
+        AccessTokenReissueRequest request = AccessTokenReissueRequestFixtureFactory.create(refreshToken);
+
+        String rotatedRefreshToken = given()
+                .contentType(JSON)
+                .body(request)
+        .when()
+                .patch("/auth/access-token")
+        .then()
+                .statusCode(200)
+                .extract().path("refreshToken");
+
+        given()
+                .contentType(JSON)
+                .body(request)
+        .when()
+                .patch("/auth/access-token")
+        .then()
+                .statusCode(401)
+                .body("code", equalTo(401))
+                .body("message", equalTo(UNAUTHORIZED_TOKEN.getMessage()));
+
+        given()
+                .contentType(JSON)
+                .body(AccessTokenReissueRequestFixtureFactory.create(rotatedRefreshToken))
+        .when()
+                .patch("/auth/access-token")
+        .then()
+                .statusCode(401)
+                .body("code", equalTo(401))
+                .body("message", equalTo(UNAUTHORIZED_TOKEN.getMessage()));
     }
 
     @TestFactory
@@ -346,7 +394,7 @@ public class AuthApiTest extends E2eTestSupport {
     }
 
     @Test
-    @DisplayName("엑세스 토큰 재발급 시 리프레시 토큰이 유효하더라도 사용자가 가지지 않으면 실패한다. 예상 상황 이중 로그인 방지")
+    @DisplayName("엑세스 토큰 재발급 시 리프레시 토큰이 유효하더라도 저장되어 있지 않으면 인증에 실패한다. 예상 상황 이중 로그인 방지")
     void reissueAccessTokenWithValidRefreshTokenButUserNotFound() {
         // given
         Account account = AccountFixtureFactory.create(passwordEncoder, "password");
@@ -363,9 +411,9 @@ public class AuthApiTest extends E2eTestSupport {
         .when()
                 .patch("/auth/access-token")
         .then()
-                .statusCode(404)
-                .body("code", equalTo(404))
-                .body("message", equalTo(USER_NOT_FOUND.getMessage()));
+                .statusCode(401)
+                .body("code", equalTo(401))
+                .body("message", equalTo(UNAUTHORIZED_TOKEN.getMessage()));
     }
 
     @Test
@@ -0,0 +1,214 @@
+package com.user.api;
+
+import com.storage.entity.Account;
+import com.storage.entity.Comment;
+import com.storage.entity.Post;
+import com.storage.entity.User;
+import com.storage.repository.AccountRepository;
+import com.storage.repository.CommentRepository;
+import com.storage.repository.PostRepository;
+import com.storage.repository.UserRepository;
+import com.user.E2eTestSupport;
+import com.user.dto.request.CommentRegisterRequest;
+import com.user.support.fixture.entity.AccountFixtureFactory;
+import com.user.support.fixture.entity.UserFixtureFactory;
+import com.user.utils.token.JwtTokenProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+
+import java.util.Date;
+
+import static com.user.enums.ErrorType.COMMENT_NOT_FOUND;
+import static com.user.enums.ErrorType.LOGIN_REQUIRED;
+import static com.user.enums.ErrorType.POST_NOT_FOUND;
+import static com.user.enums.TokenType.ACCESS;
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.springframework.data.domain.Sort.by;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+public class CommentApiTest extends E2eTestSupport {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @AfterEach
+    void tearDown() {
+        // replies reference their parent, ids are time-ordered so deleting newest first keeps the FK satisfied
+        commentRepository.deleteAll(commentRepository.findAll(by(DESC, "id")));
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("댓글은 대댓글 트리와 함께 최상위 댓글 커서를 따라 끝까지 조회된다")
+    void getCommentsWithCursor() {
+        // given
+        Account account = AccountFixtureFactory.create();
+        User user = UserFixtureFactory.create(account);
+        accountRepository.save(account);
+        userRepository.save(user);
+        Post post = postRepository.save(Post.builder()
+                .author(user)
+                .location("싱가폴")
+                .title("title")
+                .content("content")
+                .build());
+        Comment first = commentRepository.save(createComment(user, post, null, "first"));
+        commentRepository.save(createComment(user, post, first, "reply"));
+        commentRepository.save(createComment(user, post, null, "second"));
+
+        Long nextCursor = given()
+        .when()
+                .get("/posts/" + post.getId() + "/comments?size=1")
+        .then()
+                .statusCode(200)
+                .body("comments", hasSize(1))
+                .body("comments[0].content", equalTo("first"))
+                .body("comments[0].authorNickname", equalTo(user.getNickname()))
+                .body("comments[0].replies[0].content", equalTo("reply"))
+                .body("nextCursor", notNullValue())
+                .extract()
+                .jsonPath()
+                .getLong("nextCursor");
+
+        given()
+        .when()
+                .get("/posts/" + post.getId() + "/comments?size=1&cursor=" + nextCursor)
+        .then()
+                .statusCode(200)
+                .body("comments", hasSize(1))
+                .body("comments[0].content", equalTo("second"))
+                .body("nextCursor", nullValue());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시물의 댓글을 조회하면 404 Not Found 응답을 반환한다")
+    void getCommentsWhenPostNotFound() {
+        given()
+        .when()
+                .get("/posts/1/comments")
+        .then()
+                .statusCode(404)
+                .body("message", equalTo(POST_NOT_FOUND.getMessage()));
+    }
+
+    @Test
+    @DisplayName("댓글과 대댓글을 등록하면 게시물의 댓글 수와 댓글의 대댓글 수에 바로 반영된다")
+    void registerCommentsUpdatesCounts() {
+        // given
+        Account account = AccountFixtureFactory.create();
+        User user = UserFixtureFactory.create(account);
+        accountRepository.save(account);
+        userRepository.save(user);
+        Post post = postRepository.save(Post.builder()
+                .author(user)
+                .location("싱가폴")
+                .title("title")
+                .content("content")
+                .build());
+        String accessToken = jwtTokenProvider.generateToken(ACCESS, user.getId(), new Date());
+
+        given()
+                .header(AUTHORIZATION, "Bearer " + accessToken)
+                .contentType(JSON)
+                .body(new CommentRegisterRequest(null, "comment"))
+        .when()
+                .post("/posts/" + post.getId() + "/comments")
+        .then()
+                .statusCode(201);
+        Long commentId = commentRepository.findRootRowsAfter(post.getId(), 0L, Limit.of(1)).get(0).id();
+
+        given()
+                .header(AUTHORIZATION, "Bearer " + accessToken)
+                .contentType(JSON)
+                .body(new CommentRegisterRequest(commentId, "reply"))
+        .when()
+                .post("/posts/" + post.getId() + "/comments")
+        .then()
+                .statusCode(201);
+
+        // then
+        given()
+        .when()
+                .get("/posts/" + post.getId())
+        .then()
+                .statusCode(200)
+                .body("commentCount", equalTo(2));
+
+        given()
+        .when()
+                .get("/posts/" + post.getId() + "/comments")
+        .then()
+                .statusCode(200)
+                .body("comments[0].replyCount", equalTo(1))
+                .body("comments[0].replies[0].content", equalTo("reply"));
+    }
+
+    @Test
+    @DisplayName("다른 게시물의 댓글에는 대댓글을 등록할 수 없다")
+    void registerReplyToOtherPostComment() {
+        // given
+        Account account = AccountFixtureFactory.create();
+        User user = UserFixtureFactory.create(account);
+        accountRepository.save(account);
+        userRepository.save(user);
+        Post post = postRepository.save(Post.builder().author(user).location("싱가폴").title("a").content("a").build());
+        Post other = postRepository.save(Post.builder().author(user).location("싱가폴").title("b").content("b").build());
+        Comment comment = commentRepository.save(createComment(user, other, null, "comment"));
+        String accessToken = jwtTokenProvider.generateToken(ACCESS, user.getId(), new Date());
+
+        given()
+                .header(AUTHORIZATION, "Bearer " + accessToken)
+                .contentType(JSON)
+                .body(new CommentRegisterRequest(comment.getId(), "reply"))
+        .when()
+                .post("/posts/" + post.getId() + "/comments")
+        .then()
+                .statusCode(404)
+                .body("message", equalTo(COMMENT_NOT_FOUND.getMessage()));
+    }
+
+    @Test
+    @DisplayName("로그인 하지 않으면 댓글을 등록할 수 없다")
+    void registerCommentWhenNotLogin() {
+        given()
+                .contentType(JSON)
+                .body(new CommentRegisterRequest(null, "comment"))
+        .when()
+                .post("/posts/1/comments")
+        .then()
+                .statusCode(401)
+                .body("message", equalTo(LOGIN_REQUIRED.getMessage()));
+    }
+
+    private Comment createComment(User user, Post post, Comment parent, String content) {
+        return Comment.builder()
+                .author(user)
+                .post(post)
+                .parentComment(parent)
+                .content(content)
+                .build();
+    }
+}
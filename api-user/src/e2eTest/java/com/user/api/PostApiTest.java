@@ -1,6 +1,7 @@
 package com.user.api;
 
 import com.storage.entity.Account;
+import com.storage.entity.Post;
 import com.storage.entity.Product;
 import com.storage.entity.ProductLevel;
 import com.storage.entity.User;
@@ -36,6 +37,9 @@ import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 
@@ -298,6 +302,176 @@ public class PostApiTest extends E2eTestSupport {
                 );
     }
 
+    @Test
+    @DisplayName("게시물 목록은 커서를 따라 최신순으로 끝까지 조회된다")
+    void getPostsWithCursor() {
+        // given
+        Account account = AccountFixtureFactory.create();
+        User user = UserFixtureFactory.create(account);
+        accountRepository.save(account);
+        userRepository.save(user);
+        for (int i = 1; i <= 3; i++) {
+            postRepository.save(Post.builder()
+                    .author(user)
+                    .location("싱가폴")
+                    .title("title" + i)
+                    .content("content" + i)
+                    .build());
+        }
+
+        String nextCursor = given()
+        .when()
+                .get("/posts?size=2")
+        .then()
+                .statusCode(200)
+                .body("posts", hasSize(2))
+                .body("posts[0].title", equalTo("title3"))
+                .body("posts[0].authorNickname", equalTo(user.getNickname()))
+                .body("nextCursor", notNullValue())
+                .extract()
+                .path("nextCursor");
+
+        given()
+                .queryParam("size", 2)
+                .queryParam("cursor", nextCursor)
+        .when()
+                .get("/posts")
+        .then()
+                .statusCode(200)
+                .body("posts", hasSize(1))
+                .body("posts[0].title", equalTo("title1"))
+                .body("nextCursor", nullValue());
+    }
+
+    @Test
+    @DisplayName("게시물을 조회할 때마다 반영 대기중인 조회수까지 포함해 조회수가 증가한다")
+    void getPostIncreasesViews() {
+        // given
+        Account account = AccountFixtureFactory.create();
+        User user = UserFixtureFactory.create(account);
+        accountRepository.save(account);
+        userRepository.save(user);
+        Post post = postRepository.save(Post.builder()
+                .author(user)
+                .location("싱가폴")
+                .title("title")
+                .content("content")
+                .build());
+
+        given().when().get("/posts/" + post.getId());
+
+        given()
+        .when()
+                .get("/posts/" + post.getId())
+        .then()
+                .statusCode(200)
+                .body("title", equalTo("title"))
+                .body("views", equalTo(2));
+    }
+
+    @Test
+    @DisplayName("NDJSON으로 게시물을 일괄 등록하면 유효한 줄만 저장되고 실패한 줄이 보고된다")
+    void importPostsWithNdjson() {
+        // given
+        String accessToken = createAndSaveUserWithAccessToken();
+        String body = String.join("\n",
+                "{\"location\":\"싱가폴\",\"title\":\"title1\",\"content\":\"content\",\"needPremium\":false}",
+                "{\"location\":\"\",\"title\":\"title2\",\"content\":\"content\",\"needPremium\":false}",
+                "{\"location\":\"싱가폴\",\"title\":\"title3\",\"content\":\"content\",\"needPremium\":true}");
+
+        given()
+                .header(AUTHORIZATION, "Bearer " + accessToken)
+                .contentType("application/x-ndjson")
+                .body(body)
+        .when()
+                .post("/posts/bulk")
+        .then()
+                .statusCode(200)
+                .body("imported", equalTo(1))
+                .body("failed", equalTo(2))
+                .body("failures[0].line", equalTo(2))
+                .body("failures[0].validations", hasKey("location"))
+                .body("failures[1].line", equalTo(3))
+                .body("failures[1].message", equalTo(PRODUCT_PREMIUM_REQUIRED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("등록한 게시물은 바로 검색된다")
+    void searchRegisteredPost() {
+        // given
+        String accessToken = createAndSaveUserWithAccessToken();
+        PostRegisterRequest request = new PostRegisterRequest("싱가폴", "마리나 베이 샌즈 야경", "야경 명소 추천", false);
+        given()
+                .header(AUTHORIZATION, "Bearer " + accessToken)
+                .contentType(JSON)
+                .body(request)
+        .when()
+                .post("/posts")
+        .then()
+                .statusCode(201);
+
+        given()
+                .queryParam("query", "야경 명소")
+                .queryParam("location", "싱가폴")
+        .when()
+                .get("/posts/search")
+        .then()
+                .statusCode(200)
+                .body("posts", hasSize(1))
+                .body("posts[0].title", equalTo("마리나 베이 샌즈 야경"));
+    }
+
+    @Test
+    @DisplayName("게시물을 등록하면 장소별 게시물 수에 반영된다")
+    void registeredPostIsCountedInLocations() {
+        // given
+        String accessToken = createAndSaveUserWithAccessToken();
+        for (int i = 0; i < 2; i++) {
+            given()
+                    .header(AUTHORIZATION, "Bearer " + accessToken)
+                    .contentType(JSON)
+                    .body(new PostRegisterRequest("아이슬란드", "오로라 " + i, "오로라 여행", false))
+            .when()
+                    .post("/posts")
+            .then()
+                    .statusCode(201);
+        }
+
+        given()
+        .when()
+                .get("/posts/locations")
+        .then()
+                .statusCode(200)
+                .body("locations.find { it.location == '아이슬란드' }.count", equalTo(2));
+    }
+
+    @Test
+    @DisplayName("조회된 게시물은 장소별 인기 게시물에 포함된다")
+    void viewedPostIsTrending() {
+        // given
+        Account account = AccountFixtureFactory.create();
+        User user = UserFixtureFactory.create(account);
+        accountRepository.save(account);
+        userRepository.save(user);
+        Post post = postRepository.save(Post.builder()
+                .author(user)
+                .location("몰디브")
+                .title("title")
+                .content("content")
+                .build());
+
+        given().when().get("/posts/" + post.getId());
+
+        given()
+                .queryParam("location", "몰디브")
+        .when()
+                .get("/posts/trending")
+        .then()
+                .statusCode(200)
+                .body("posts", hasSize(1))
+                .body("posts[0].id", equalTo(post.getId()));
+    }
+
     private String createAndSaveUserWithAccessToken() {
         Account account = AccountFixtureFactory.create();
         User user = UserFixtureFactory.create(account);
@@ -0,0 +1,165 @@
+package com.user.repository;
+
+import com.storage.entity.Account;
+import com.storage.entity.Comment;
+import com.storage.entity.Post;
+import com.storage.entity.RefreshToken;
+import com.storage.entity.User;
+import com.storage.projection.CommentRow;
+import com.storage.repository.AccountRepository;
+import com.storage.repository.CommentRepository;
+import com.storage.repository.PostRepository;
+import com.storage.repository.RefreshTokenRepository;
+import com.storage.repository.UserRepository;
+import com.user.E2eTestSupport;
+import com.user.support.fixture.entity.AccountFixtureFactory;
+import com.user.support.fixture.entity.RefreshTokenFixtureFactory;
+import com.user.support.fixture.entity.UserFixtureFactory;
+import com.user.utils.token.TokenHash;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static com.user.support.sql.SqlStatementGuard.expectStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.springframework.data.domain.Sort.by;
+
+public class RepositoryFetchPlanTest extends E2eTestSupport {
+
+    private static final String REFRESH_TOKEN = "refresh-token";
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Account account;
+    private User user;
+    private Post post;
+
+    @BeforeEach
+    void setUpData() {
+        transaction = new TransactionTemplate(transactionManager);
+        account = accountRepository.save(AccountFixtureFactory.create());
+        user = userRepository.save(UserFixtureFactory.create(account));
+        post = postRepository.save(Post.builder()
+                .author(user)
+                .location("싱가폴")
+                .title("title")
+                .content("content")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAll(commentRepository.findAll(by(DESC, "id")));
+        refreshTokenRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("게시물과 작성자는 한 번의 쿼리로 조회된다")
+    void findPostWithAuthor() {
+        String nickname = expectStatements(1, () -> transaction.execute(status ->
+                postRepository.findByIdWithAuthor(post.getId()).orElseThrow().getAuthor().getNickname()));
+
+        assertThat(nickname).isEqualTo(user.getNickname());
+    }
+
+    @Test
+    @DisplayName("회원과 계정은 한 번의 쿼리로 조회된다")
+    void findUserWithAccount() {
+        String emailById = expectStatements(1, () -> transaction.execute(status ->
+                userRepository.findByIdWithAccount(user.getId()).orElseThrow().getAccount().getEmail()));
+        String password = expectStatements(1, () -> transaction.execute(status ->
+                userRepository.findByAccountEmail(account.getEmail()).orElseThrow().getAccount().getPassword()));
+
+        assertThat(emailById).isEqualTo(account.getEmail());
+        assertThat(password).isEqualTo(account.getPassword());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰과 회원은 한 번의 쿼리로 조회된다")
+    void findRefreshTokenWithUser() {
+        refreshTokenRepository.save(RefreshTokenFixtureFactory.create(user, REFRESH_TOKEN));
+
+        String nickname = expectStatements(1, () -> transaction.execute(status ->
+                refreshTokenRepository.findByTokenHashWithUser(TokenHash.sha256Hex(REFRESH_TOKEN))
+                        .orElseThrow().getUser().getNickname()));
+
+        assertThat(nickname).isEqualTo(user.getNickname());
+    }
+
+    @Test
+    @DisplayName("댓글을 조회해도 작성자, 게시물, 부모 댓글은 함께 조회되지 않는다")
+    void findCommentsWithoutAssociations() {
+        Comment parent = commentRepository.save(createComment(null, "parent"));
+        Comment reply = commentRepository.save(createComment(parent, "reply"));
+        commentRepository.save(createComment(reply, "nested reply"));
+
+        List<Long> parentIds = expectStatements(1, () -> transaction.execute(status ->
+                commentRepository.findAll().stream()
+                        .map(comment -> comment.getParentComment() == null ? null : comment.getParentComment().getId())
+                        .toList()));
+
+        assertThat(parentIds).containsExactlyInAnyOrder(null, parent.getId(), reply.getId());
+    }
+
+    @Test
+    @DisplayName("게시물 목록과 댓글 목록은 작성자를 포함해 한 번의 쿼리로 조회된다")
+    void findProjectionsInOneStatement() {
+        commentRepository.save(createComment(null, "comment"));
+
+        expectStatements(1, () -> postRepository.findFeed(Limit.of(20)));
+        expectStatements(1, () -> commentRepository.findRootRowsAfter(post.getId(), 0L, Limit.of(20)));
+    }
+
+    @Test
+    @DisplayName("대댓글은 깊이와 관계없이 한 번의 쿼리로 최대 깊이까지 조회된다")
+    void findReplyRowsInOneStatement() {
+        Comment root = commentRepository.save(createComment(null, "root"));
+        Comment reply = commentRepository.save(createComment(root, "reply"));
+        Comment nested = commentRepository.save(createComment(reply, "nested"));
+        commentRepository.save(createComment(nested, "too deep"));
+
+        List<Long> replyIds = expectStatements(1, () -> commentRepository.findReplyRows(List.of(root.getId()), 2)
+                .stream()
+                .map(CommentRow::id)
+                .toList());
+
+        assertThat(replyIds).containsExactly(reply.getId(), nested.getId());
+    }
+
+    private Comment createComment(Comment parent, String content) {
+        return Comment.builder()
+                .author(user)
+                .post(post)
+                .parentComment(parent)
+                .content(content)
+                .build();
+    }
+}
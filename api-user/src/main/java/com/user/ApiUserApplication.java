@@ -5,7 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @ConfigurationPropertiesScan
-@SpringBootApplication(scanBasePackages = {"com.user", "com.storage.config"})
+@SpringBootApplication(scanBasePackages = {"com.user", "com.storage.config", "com.support"})
 public class ApiUserApplication {
 
     public static void main(String[] args) {
@@ -23,7 +23,7 @@ public class AuditorAwareImpl implements AuditorAware<Long> {
 
     private Long extractCurrentAccountId(Authentication authentication) {
         UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
-        return principal.getUser().getAccount().getId();
+        return principal.getAccountId();
     }
 
     private boolean isAuthenticatedUser(Authentication authentication) {
@@ -0,0 +1,89 @@
+package com.user.config;
+
+import com.storage.metrics.QueryContext;
+import com.storage.metrics.QueryStats;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the statements issued while serving a request, including those of the security filters,
+ * and publishes them per route. With {@code storage.query-metrics.expose-header} the totals are also
+ * sent as response headers, which buffers the body and is meant for local development only.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryMetricsFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "http.server.requests";
+    private static final String UNKNOWN_ROUTE = "UNKNOWN";
+    private static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    private static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+    private static final String SLOW_QUERY_COUNT_HEADER = "X-Slow-Query-Count";
+
+    private final boolean exposeHeader;
+    private volatile MeterRegistry registry;
+
+    public QueryMetricsFilter(@Value("${storage.query-metrics.expose-header:false}") boolean exposeHeader) {
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryContext.begin();
+        ContentCachingResponseWrapper bufferedResponse = exposeHeader ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            chain.doFilter(request, bufferedResponse == null ? response : bufferedResponse);
+        } finally {
+            QueryContext.end();
+            record(request, stats);
+            if (bufferedResponse != null) {
+                bufferedResponse.setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getStatements()));
+                bufferedResponse.setHeader(QUERY_TIME_HEADER,
+                        String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos())));
+                bufferedResponse.setHeader(SLOW_QUERY_COUNT_HEADER, String.valueOf(stats.getSlowStatements()));
+                bufferedResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        MeterRegistry registry = this.registry;
+        if (registry == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String route = pattern == null ? UNKNOWN_ROUTE : pattern.toString();
+        DistributionSummary.builder(METRIC_PREFIX + ".queries")
+                .tag("method", request.getMethod())
+                .tag("uri", route)
+                .register(registry)
+                .record(stats.getStatements());
+        Timer.builder(METRIC_PREFIX + ".jdbc")
+                .tag("method", request.getMethod())
+                .tag("uri", route)
+                .register(registry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -11,6 +11,9 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 
 import static com.user.enums.ErrorType.LOGIN_REQUIRED;
 
+/**
+ * Resolves {@link CurrentUser} parameters to the authenticated {@link UserPrincipal}, never to an entity.
+ */
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
     @Override
@@ -27,7 +30,7 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             throw new CommonException(LOGIN_REQUIRED);
         }
 
-        return isAuthenticatedUser ? ((UserPrincipal) authentication.getPrincipal()).getUser() : null;
+        return isAuthenticatedUser ? authentication.getPrincipal() : null;
     }
 
     private boolean isAuthenticatedUser(Authentication authentication) {
@@ -1,10 +1,13 @@
 package com.user.config.security;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.user.config.security.filter.JwtAuthenticationFilter;
 import com.user.service.AuthService;
+import com.user.utils.crypto.AdaptiveBCryptPasswordEncoder;
+import com.user.utils.crypto.BoundedPasswordEncoder;
 import com.user.utils.token.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -12,11 +15,11 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.time.Duration;
 
 @Configuration(proxyBeanMethods = false)
 @EnableMethodSecurity
@@ -49,12 +52,17 @@ public class SecurityConfig {
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
                                                            AuthService authService,
-                                                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver resolver) {
-        return new JwtAuthenticationFilter(jwtTokenProvider, authService, resolver);
+                                                           ObjectMapper objectMapper) {
+        return new JwtAuthenticationFilter(jwtTokenProvider, authService, objectMapper);
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password-encoder.pool-size:0}") int poolSize,
+                                           @Value("${auth.password-encoder.queue-capacity:64}") int queueCapacity,
+                                           @Value("${auth.password-encoder.target-latency:250ms}") Duration targetLatency,
+                                           @Value("${auth.password-encoder.min-strength:10}") int minStrength,
+                                           @Value("${auth.password-encoder.max-strength:14}") int maxStrength) {
+        PasswordEncoder bcrypt = new AdaptiveBCryptPasswordEncoder(targetLatency, minStrength, maxStrength);
+        return new BoundedPasswordEncoder(bcrypt, poolSize, queueCapacity);
     }
 }
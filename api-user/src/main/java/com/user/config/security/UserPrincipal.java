@@ -1,25 +1,64 @@
 package com.user.config.security;
 
+import com.storage.entity.ProductLevel;
 import com.storage.entity.User;
+import com.user.utils.token.TokenClaims;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 
+/**
+ * Immutable and free of entities, so one instance can be cached and shared by concurrent requests.
+ * Code that needs the {@link User} entity loads it by {@link #getUserId()} inside its own transaction.
+ */
 @Getter
-@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class UserPrincipal implements UserDetails {
 
-    private final User user;
     private static final String ROLE_USER = "ROLE_USER";
 
+    private final Long userId;
+    private final Long accountId;
+    private final String nickname;
+    private final ProductLevel productLevel;
+    private final LocalDateTime productEndAt;
+    @Getter(AccessLevel.NONE)
+    private final boolean productClaims;
+
+    private UserPrincipal(Long userId, Long accountId, String nickname, ProductLevel productLevel,
+                          LocalDateTime productEndAt, boolean productClaims) {
+        this.userId = userId;
+        this.accountId = accountId;
+        this.nickname = nickname;
+        this.productLevel = productLevel;
+        this.productEndAt = productEndAt;
+        this.productClaims = productClaims;
+    }
+
     public static UserPrincipal of(User user) {
-        return new UserPrincipal(user);
+        return new UserPrincipal(user.getId(), user.getAccount().getId(), user.getNickname(), null, null, false);
+    }
+
+    /**
+     * Builds a principal from access token claims only. In claims mode the token also carries the product,
+     * a missing product level then means the user had no product when the token was issued.
+     */
+    public static UserPrincipal of(TokenClaims claims) {
+        return new UserPrincipal(claims.userId(), claims.accountId(), claims.nickname(),
+                claims.productLevel(), claims.productEndAt(), true);
+    }
+
+    /**
+     * Whether {@link #getProductLevel()} and {@link #getProductEndAt()} come from the token and can be trusted
+     * for its lifetime, otherwise they are unknown and the product has to be looked up.
+     */
+    public boolean hasProductClaims() {
+        return productClaims;
     }
 
     @Override
@@ -29,11 +68,11 @@ public class UserPrincipal implements UserDetails {
 
     @Override
     public String getPassword() {
-        return user.getAccount().getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getAccount().getEmail();
+        return nickname;
     }
 }
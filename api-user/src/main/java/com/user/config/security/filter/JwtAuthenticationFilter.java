@@ -1,51 +1,82 @@
 package com.user.config.security.filter;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.user.config.security.UserPrincipal;
+import com.user.dto.response.ErrorMessage;
+import com.user.enums.ErrorType;
 import com.user.service.AuthService;
 import com.user.utils.error.CommonException;
 import com.user.utils.token.JwtTokenProvider;
+import com.user.utils.token.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
-import java.util.Optional;
+import java.util.EnumMap;
+import java.util.Map;
 
 import static com.user.enums.TokenType.ACCESS;
 
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthService authService;
-    private final HandlerExceptionResolver resolver;
+    private final Map<ErrorType, byte[]> errorBodies = new EnumMap<>(ErrorType.class);
+
+    /**
+     * Error bodies are rendered once up front, a rejected token is answered straight from the filter
+     * with the same body {@code GlobalControllerAdvice} would produce.
+     */
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, AuthService authService, ObjectMapper objectMapper) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.authService = authService;
+        for (ErrorType errorType : ErrorType.values()) {
+            errorBodies.put(errorType, writeErrorBody(objectMapper, errorType));
+        }
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
-        Optional<String> token = jwtTokenProvider.extractTokenFromHeader(authorization);
 
-        if (token.isPresent()) {
+        if (jwtTokenProvider.hasBearerToken(authorization)) {
             try {
-                Long userId = jwtTokenProvider.getUserId(ACCESS, token.get());
-                UserPrincipal principal = authService.getUserPrincipal(userId);
+                TokenClaims claims = jwtTokenProvider.getTokenClaimsFromHeader(ACCESS, authorization);
+                UserPrincipal principal = authService.getUserPrincipal(claims);
                 UsernamePasswordAuthenticationToken authenticated = UsernamePasswordAuthenticationToken.authenticated(
-                        principal, token.get(), principal.getAuthorities());
+                        principal, null, principal.getAuthorities());
 
                 SecurityContextHolder.getContext().setAuthentication(authenticated);
             } catch (CommonException e) {
-                resolver.resolveException(request, response, null, e);
+                writeErrorResponse(response, e.getErrorType());
                 return;
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private void writeErrorResponse(HttpServletResponse response, ErrorType errorType) throws IOException {
+        byte[] body = errorBodies.get(errorType);
+        response.setStatus(errorType.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static byte[] writeErrorBody(ObjectMapper objectMapper, ErrorType errorType) {
+        try {
+            return objectMapper.writeValueAsBytes(new ErrorMessage(errorType));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -3,7 +3,6 @@ package com.user.controller;
 import com.user.dto.request.AccessTokenReissueRequest;
 import com.user.dto.request.LoginRequest;
 import com.user.dto.request.UserRegisterRequest;
-import com.user.dto.response.AccessTokenResponse;
 import com.user.dto.response.TokenResponse;
 import com.user.service.AuthService;
 import jakarta.validation.Valid;
@@ -37,8 +36,8 @@ public class AuthController {
     }
 
     @PatchMapping("/access-token")
-    public ResponseEntity<AccessTokenResponse> reissueAccessToken(@RequestBody @Valid AccessTokenReissueRequest request) {
-        String accessToken = authService.reissueAccessToken(request.refreshToken());
-        return ResponseEntity.ok(AccessTokenResponse.of(accessToken));
+    public ResponseEntity<TokenResponse> reissueAccessToken(@RequestBody @Valid AccessTokenReissueRequest request) {
+        TokenResponse tokenResponse = authService.reissueAccessToken(request.refreshToken());
+        return ResponseEntity.ok(tokenResponse);
     }
 }
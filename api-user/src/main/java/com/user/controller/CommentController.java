@@ -0,0 +1,43 @@
+package com.user.controller;
+
+import com.user.config.security.CurrentUser;
+import com.user.config.security.UserPrincipal;
+import com.user.dto.request.CommentPageRequest;
+import com.user.dto.request.CommentRegisterRequest;
+import com.user.dto.response.CommentPageResponse;
+import com.user.service.CommentService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.springframework.http.HttpStatus.CREATED;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/posts/{postId}/comments")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    @GetMapping
+    public ResponseEntity<CommentPageResponse> getComments(@PathVariable Long postId,
+                                                           @ModelAttribute @Valid CommentPageRequest request) {
+        CommentPageResponse response = commentService.getComments(postId, request);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping
+    public ResponseEntity<Void> registerComment(@CurrentUser UserPrincipal principal,
+                                                @PathVariable Long postId,
+                                                @RequestBody @Valid CommentRegisterRequest request) {
+        commentService.register(principal.getUserId(), postId, request);
+        return ResponseEntity.status(CREATED).build();
+    }
+}
@@ -1,18 +1,33 @@
 package com.user.controller;
 
-import com.storage.entity.User;
 import com.user.config.security.CurrentUser;
+import com.user.config.security.UserPrincipal;
+import com.user.dto.request.PostFeedRequest;
 import com.user.dto.request.PostRegisterRequest;
+import com.user.dto.request.PostSearchRequest;
+import com.user.dto.request.PostTrendingRequest;
+import com.user.dto.response.PostBulkResponse;
+import com.user.dto.response.PostFeedResponse;
+import com.user.dto.response.PostLocationsResponse;
+import com.user.dto.response.PostResponse;
+import com.user.dto.response.PostTrendingResponse;
 import com.user.service.PostService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,10 +36,46 @@ public class PostController {
 
     private final PostService postService;
 
+    @GetMapping
+    public ResponseEntity<PostFeedResponse> getPosts(@ModelAttribute @Valid PostFeedRequest request) {
+        PostFeedResponse response = postService.getPosts(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PostFeedResponse> searchPosts(@ModelAttribute @Valid PostSearchRequest request) {
+        PostFeedResponse response = postService.search(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/locations")
+    public ResponseEntity<PostLocationsResponse> getLocations() {
+        PostLocationsResponse response = postService.getLocations();
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<PostTrendingResponse> getTrending(@ModelAttribute @Valid PostTrendingRequest request) {
+        PostTrendingResponse response = postService.getTrending(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/{postId}")
+    public ResponseEntity<PostResponse> getPost(@PathVariable Long postId) {
+        PostResponse response = postService.getPost(postId);
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping
-    public ResponseEntity<Void> registerPost(@CurrentUser User user,
+    public ResponseEntity<Void> registerPost(@CurrentUser UserPrincipal principal,
                                              @RequestBody @Valid PostRegisterRequest request) {
-        postService.register(user, request);
+        postService.register(principal, request);
         return ResponseEntity.status(CREATED).build();
     }
+
+    @PostMapping(value = "/bulk", consumes = {APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<PostBulkResponse> importPosts(@CurrentUser UserPrincipal principal, InputStream body) {
+        PostBulkResponse response = postService.importPosts(principal, body);
+        return ResponseEntity.ok(response);
+    }
 }
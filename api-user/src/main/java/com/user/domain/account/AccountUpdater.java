@@ -0,0 +1,12 @@
+package com.user.domain.account;
+
+import com.storage.entity.Account;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccountUpdater {
+
+    public void updatePassword(Account account, String encodedPassword) {
+        account.setPassword(encodedPassword);
+    }
+}
@@ -0,0 +1,167 @@
+package com.user.domain.comment;
+
+import com.storage.id.TimeOrderedIdSequence;
+import com.storage.repository.CommentRepository;
+import com.storage.repository.PostRepository;
+import com.user.utils.counter.DeltaBuffer;
+import com.user.utils.lock.JobLeases;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * Comment counts per post and reply counts per comment, buffered in memory and written to their counter columns
+ * in batches, so listing posts never counts rows of the comment table.
+ */
+@Slf4j
+@Component
+public class CommentCounter {
+
+    private static final String RECONCILE_JOB = "comment-counter-reconcile";
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final JobLeases jobLeases;
+    private final TransactionTemplate primaryTransaction;
+    private final int reconcileChunkSize;
+    private final Duration reconcileSettleTime;
+    private final Duration reconcileLease;
+    private final DeltaBuffer commentCounts = new DeltaBuffer();
+    private final DeltaBuffer replyCounts = new DeltaBuffer();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile Map<Long, Long> flushingCommentCounts = Map.of();
+    private volatile Map<Long, Long> flushingReplyCounts = Map.of();
+
+    public CommentCounter(PostRepository postRepository,
+                          CommentRepository commentRepository,
+                          JobLeases jobLeases,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${comment.counter.reconcile-chunk-size:1000}") int reconcileChunkSize,
+                          @Value("${comment.counter.reconcile-settle-time:PT1M}") Duration reconcileSettleTime,
+                          @Value("${comment.counter.reconcile-lease:PT30M}") Duration reconcileLease) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.jobLeases = jobLeases;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.reconcileChunkSize = reconcileChunkSize;
+        this.reconcileSettleTime = reconcileSettleTime;
+        this.reconcileLease = reconcileLease;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentRegistered(CommentRegisteredEvent event) {
+        commentCounts.add(event.postId(), 1L);
+        if (event.parentId() != null) {
+            replyCounts.add(event.parentId(), 1L);
+        }
+    }
+
+    public long getCommentCount(Long postId, int persistedCount) {
+        return persistedCount + commentCounts.pending(postId) + flushingCommentCounts.getOrDefault(postId, 0L);
+    }
+
+    public long getReplyCount(Long commentId, int persistedCount) {
+        return persistedCount + replyCounts.pending(commentId) + flushingReplyCounts.getOrDefault(commentId, 0L);
+    }
+
+    /**
+     * Guarded by a {@link ReentrantLock} rather than {@code synchronized}, a virtual thread waiting on the UPDATEs
+     * would otherwise pin its carrier thread.
+     */
+    @Scheduled(fixedDelayString = "${comment.counter.flush-interval:PT5S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> commentDeltas = commentCounts.drain();
+            if (!commentDeltas.isEmpty()) {
+                flushingCommentCounts = commentDeltas;
+                try {
+                    postRepository.increaseCommentCounts(commentDeltas);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to flush comment counts of {} posts, retrying on next flush",
+                            commentDeltas.size(), e);
+                    commentCounts.restore(commentDeltas);
+                } finally {
+                    flushingCommentCounts = Map.of();
+                }
+            }
+            Map<Long, Long> replyDeltas = replyCounts.drain();
+            if (!replyDeltas.isEmpty()) {
+                flushingReplyCounts = replyDeltas;
+                try {
+                    commentRepository.increaseReplyCounts(replyDeltas);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to flush reply counts of {} comments, retrying on next flush",
+                            replyDeltas.size(), e);
+                    replyCounts.restore(replyDeltas);
+                } finally {
+                    flushingReplyCounts = Map.of();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Repairs counters that drifted, e.g. after a failed flush was lost on shutdown or rows were changed outside
+     * the application. Posts and comments are walked in id ranges, and each range is recounted and overwritten by
+     * one {@code UPDATE} on the primary, so no table is loaded into memory and no replica lag leaks in.
+     * <p>
+     * Only one instance reconciles at a time, the others skip the run. Comments still buffered on other
+     * instances would be counted twice, so counters with a comment newer than {@code reconcile-settle-time}
+     * are left for the next run; the settle time must stay well above the flush interval.
+     */
+    @Scheduled(initialDelayString = "${comment.counter.reconcile-interval:PT1H}",
+            fixedDelayString = "${comment.counter.reconcile-interval:PT1H}")
+    public void reconcile() {
+        if (!jobLeases.tryAcquire(RECONCILE_JOB, reconcileLease)) {
+            log.debug("Comment counters are reconciled by another instance, skipping");
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            flush();
+            long settledId = TimeOrderedIdSequence.lowestIdAt(Instant.now().minus(reconcileSettleTime));
+            int posts = recountInChunks(postRepository::findChunkEndAfter,
+                    (from, to) -> postRepository.recountCommentCounts(from, to, settledId));
+            int comments = recountInChunks(commentRepository::findChunkEndAfter,
+                    (from, to) -> commentRepository.recountReplyCounts(from, to, settledId));
+            log.info("Comment counters reconciled, recounted {} posts and {} comments in {} ms",
+                    posts, comments, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            jobLeases.release(RECONCILE_JOB);
+        }
+    }
+
+    private int recountInChunks(BiFunction<Long, Integer, Long> chunkEndAfter,
+                                BiFunction<Long, Long, Integer> recount) {
+        int recounted = 0;
+        Long from = 0L;
+        Long to;
+        while ((to = chunkEndAfter.apply(from, reconcileChunkSize)) != null) {
+            Long chunkFrom = from;
+            Long chunkTo = to;
+            recounted += primaryTransaction.execute(status -> recount.apply(chunkFrom, chunkTo));
+            from = to;
+        }
+        return recounted;
+    }
+}
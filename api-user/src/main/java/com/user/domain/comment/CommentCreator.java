@@ -0,0 +1,17 @@
+package com.user.domain.comment;
+
+import com.storage.entity.Comment;
+import com.storage.entity.Post;
+import com.storage.entity.User;
+
+public class CommentCreator {
+
+    public static Comment create(User user, Post post, Comment parentComment, String content) {
+        return Comment.builder()
+                .author(user)
+                .post(post)
+                .parentComment(parentComment)
+                .content(content)
+                .build();
+    }
+}
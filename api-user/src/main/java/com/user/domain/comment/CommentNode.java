@@ -0,0 +1,22 @@
+package com.user.domain.comment;
+
+import com.storage.projection.CommentRow;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+public class CommentNode {
+
+    private final CommentRow comment;
+    private final int depth;
+    private final CommentNode container;
+    private final List<CommentNode> replies = new ArrayList<>();
+
+    CommentNode(CommentRow comment, int depth, CommentNode container) {
+        this.comment = comment;
+        this.depth = depth;
+        this.container = container;
+    }
+}
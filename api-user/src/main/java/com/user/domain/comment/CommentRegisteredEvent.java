@@ -0,0 +1,11 @@
+package com.user.domain.comment;
+
+import com.storage.entity.Comment;
+
+public record CommentRegisteredEvent(Long commentId, Long postId, Long parentId) {
+
+    public static CommentRegisteredEvent of(Comment comment) {
+        Long parentId = comment.getParentComment() == null ? null : comment.getParentComment().getId();
+        return new CommentRegisteredEvent(comment.getId(), comment.getPost().getId(), parentId);
+    }
+}
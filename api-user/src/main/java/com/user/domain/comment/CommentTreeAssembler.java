@@ -0,0 +1,89 @@
+package com.user.domain.comment;
+
+import com.storage.projection.CommentRow;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class CommentTreeAssembler {
+
+    private static final Comparator<CommentNode> BY_ID = Comparator.comparing(node -> node.getComment().id());
+
+    /**
+     * Builds the reply tree in two passes, first indexing every row by id and then linking each row below its
+     * parent, so the order of {@code rows} does not matter: ids come from several nodes whose clocks may be skewed,
+     * and a reply can carry a lower id than its parent. Roots and replies are returned in id order.
+     * A reply below {@code maxDepth} is attached next to its parent instead, so deep threads stay readable without
+     * dropping comments. Replies whose parent is missing are skipped.
+     */
+    public static List<CommentNode> assemble(List<CommentRow> rows, int maxDepth) {
+        Map<Long, CommentRow> rowsById = new HashMap<>(rows.size() * 4 / 3 + 1);
+        for (CommentRow row : rows) {
+            rowsById.put(row.id(), row);
+        }
+
+        Map<Long, CommentNode> nodes = new HashMap<>(rows.size() * 4 / 3 + 1);
+        Set<Long> unreachable = new HashSet<>();
+        List<CommentNode> roots = new ArrayList<>();
+        for (CommentRow row : rows) {
+            link(row, rowsById, nodes, unreachable, roots, maxDepth);
+        }
+
+        roots.sort(BY_ID);
+        nodes.values().forEach(node -> node.getReplies().sort(BY_ID));
+        return roots;
+    }
+
+    /**
+     * Walks up to the nearest ancestor that is already linked, or to a root, and links the rows on the way down.
+     */
+    private static void link(CommentRow row, Map<Long, CommentRow> rowsById, Map<Long, CommentNode> nodes,
+                             Set<Long> unreachable, List<CommentNode> roots, int maxDepth) {
+        Deque<CommentRow> path = new ArrayDeque<>();
+        Set<Long> onPath = new HashSet<>();
+        CommentNode parent = null;
+        CommentRow current = row;
+        while (true) {
+            CommentNode linked = nodes.get(current.id());
+            if (linked != null) {
+                parent = linked;
+                break;
+            }
+            if (unreachable.contains(current.id()) || !onPath.add(current.id())) {
+                path.forEach(skipped -> unreachable.add(skipped.id()));
+                return;
+            }
+            path.push(current);
+            if (current.parentId() == null) {
+                break;
+            }
+            current = rowsById.get(current.parentId());
+            if (current == null) {
+                path.forEach(skipped -> unreachable.add(skipped.id()));
+                return;
+            }
+        }
+
+        while (!path.isEmpty()) {
+            CommentRow next = path.pop();
+            CommentNode node;
+            if (parent == null) {
+                node = new CommentNode(next, 0, null);
+                roots.add(node);
+            } else {
+                CommentNode container = parent.getDepth() < maxDepth ? parent : parent.getContainer();
+                node = new CommentNode(next, container.getDepth() + 1, container);
+                container.getReplies().add(node);
+            }
+            nodes.put(next.id(), node);
+            parent = node;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.user.domain.post;
+
+import com.storage.entity.Post;
+import com.storage.repository.PostRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+@Component
+public class PostBatchWriter {
+
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public PostBatchWriter(PostRepository postRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Each batch commits on its own, so a failure later in an import keeps the batches already written.
+     * Clearing after the flush keeps the persistence context from growing when called inside a wider transaction.
+     */
+    public void write(List<Post> posts) {
+        transactionTemplate.executeWithoutResult(status -> {
+            postRepository.saveAll(posts);
+            posts.forEach(post -> eventPublisher.publishEvent(PostRegisteredEvent.of(post)));
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+}
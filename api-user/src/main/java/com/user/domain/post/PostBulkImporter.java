@@ -0,0 +1,147 @@
+package com.user.domain.post;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.storage.entity.Post;
+import com.storage.entity.User;
+import com.user.dto.request.PostRegisterRequest;
+import com.user.dto.response.PostBulkFailure;
+import com.user.dto.response.PostBulkResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static com.user.enums.ErrorType.INVALID_JSON;
+import static com.user.enums.ErrorType.INVALID_REQUEST;
+import static com.user.enums.ErrorType.PRODUCT_PREMIUM_REQUIRED;
+
+@Component
+public class PostBulkImporter {
+
+    private static final int MAX_REPORTED_FAILURES = 1000;
+
+    private final ObjectReader reader;
+    private final Validator validator;
+    private final PostBatchWriter postBatchWriter;
+    private final int batchSize;
+
+    public PostBulkImporter(ObjectMapper objectMapper,
+                            Validator validator,
+                            PostBatchWriter postBatchWriter,
+                            @Value("${post.bulk-import.batch-size:500}") int batchSize) {
+        this.reader = objectMapper.readerFor(PostRegisterRequest.class);
+        this.validator = validator;
+        this.postBatchWriter = postBatchWriter;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Reads either a JSON array or newline-delimited objects one record at a time, so the body is never held
+     * in memory. Invalid records are reported by line and skipped, a syntax error stops the import.
+     * {@code premiumAllowed} is only consulted for the first record that needs premium.
+     */
+    public PostBulkResponse importPosts(User author, InputStream body, BooleanSupplier premiumAllowed) {
+        ImportResult result = new ImportResult();
+        List<Post> batch = new ArrayList<>(batchSize);
+        Boolean premium = null;
+
+        try (MappingIterator<PostRegisterRequest> iterator = reader.readValues(body)) {
+            while (iterator.hasNextValue()) {
+                long line = iterator.getParser().currentTokenLocation().getLineNr();
+                PostRegisterRequest request;
+                try {
+                    request = iterator.nextValue();
+                } catch (JsonParseException e) {
+                    result.fail(PostBulkFailure.of(line, INVALID_JSON));
+                    break;
+                } catch (JsonMappingException e) {
+                    result.fail(PostBulkFailure.of(line, INVALID_JSON));
+                    continue;
+                }
+
+                if (request == null) {
+                    result.fail(PostBulkFailure.of(line, INVALID_REQUEST));
+                    continue;
+                }
+                Map<String, String> validations = validate(request);
+                if (!validations.isEmpty()) {
+                    result.fail(PostBulkFailure.of(line, INVALID_REQUEST, validations));
+                    continue;
+                }
+                if (request.needPremium()) {
+                    if (premium == null) {
+                        premium = premiumAllowed.getAsBoolean();
+                    }
+                    if (!premium) {
+                        result.fail(PostBulkFailure.of(line, PRODUCT_PREMIUM_REQUIRED));
+                        continue;
+                    }
+                }
+
+                batch.add(PostCreator.create(
+                        author, request.location(), request.title(), request.content(), request.needPremium()));
+                if (batch.size() == batchSize) {
+                    result.write(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (JsonParseException e) {
+            result.fail(PostBulkFailure.of(e.getLocation().getLineNr(), INVALID_JSON));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!batch.isEmpty()) {
+            result.write(batch);
+        }
+        return result.toResponse();
+    }
+
+    private Map<String, String> validate(PostRegisterRequest request) {
+        Set<ConstraintViolation<PostRegisterRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> validations = new HashMap<>();
+        for (ConstraintViolation<PostRegisterRequest> violation : violations) {
+            validations.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return validations;
+    }
+
+    private class ImportResult {
+
+        private final List<PostBulkFailure> failures = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        private void write(List<Post> batch) {
+            postBatchWriter.write(batch);
+            imported += batch.size();
+        }
+
+        private void fail(PostBulkFailure failure) {
+            failed++;
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(failure);
+            }
+        }
+
+        private PostBulkResponse toResponse() {
+            return PostBulkResponse.of(imported, failed, failures);
+        }
+    }
+}
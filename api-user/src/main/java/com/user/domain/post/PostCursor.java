@@ -0,0 +1,41 @@
+package com.user.domain.post;
+
+import com.storage.projection.PostSummary;
+import com.user.utils.error.CommonException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.user.enums.ErrorType.INVALID_CURSOR;
+
+public record PostCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public static PostCursor of(PostSummary post) {
+        return new PostCursor(post.createdAt(), post.id());
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = decoded.indexOf(DELIMITER);
+            if (delimiter < 0) {
+                throw new CommonException(INVALID_CURSOR);
+            }
+            return new PostCursor(
+                    LocalDateTime.parse(decoded.substring(0, delimiter)),
+                    Long.parseLong(decoded.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CommonException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,198 @@
+package com.user.domain.post;
+
+import com.storage.id.TimeOrderedIdSequence;
+import com.storage.projection.LocationCount;
+import com.storage.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Post counts per location kept in memory, so browse pages never run a {@code GROUP BY location} over all posts.
+ * <p>
+ * Posts up to {@code scanBoundary} are counted from the database, local registrations above it by the event
+ * listener. The startup rebuild counts everything once; after that a periodic catch-up on a replica only counts
+ * the ids between the boundary and the posts older than {@code catch-up-settle-time}, which picks up posts of
+ * other instances. Local registrations the catch-up has now counted are taken back out. The boundary never passes
+ * posts younger than the settle time, so a post committed or replicated that late after its id was taken is
+ * missed until the next restart.
+ */
+@Slf4j
+@Component
+public class PostLocationFacets {
+
+    private static final String REBUILD_THREAD_NAME = "post-location-facets-rebuild";
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate primaryTransaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean rebuildOnStartup;
+    private final Duration catchUpSettleTime;
+    private final Object rebuildLock = new Object();
+    private final NavigableMap<Long, String> registeredAboveBoundary = new TreeMap<>();
+    private volatile ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+    private volatile long scanBoundary;
+    private List<PostRegisteredEvent> registeredDuringRebuild;
+
+    public PostLocationFacets(PostRepository postRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${post.location-facets.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                              @Value("${post.location-facets.catch-up-settle-time:PT1M}") Duration catchUpSettleTime) {
+        this.postRepository = postRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.catchUpSettleTime = catchUpSettleTime;
+        this.scanBoundary = rebuildOnStartup ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+
+    public List<Map.Entry<String, Long>> getCounts() {
+        return counts.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .toList();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostRegistered(PostRegisteredEvent event) {
+        synchronized (rebuildLock) {
+            if (registeredDuringRebuild != null) {
+                registeredDuringRebuild.add(event);
+            }
+            if (event.postId() > scanBoundary) {
+                increase(counts, event.location());
+                if (rebuildOnStartup) {
+                    registeredAboveBoundary.put(event.postId(), event.location());
+                }
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            Thread.ofPlatform().name(REBUILD_THREAD_NAME).daemon().start(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild post location facets", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Counts on the primary with a grouped query over the location index, up to the settled posts. The result
+     * replaces the counts in one step; registrations above the new boundary seen while the query ran are replayed
+     * on top of it.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (rebuildLock) {
+            if (registeredDuringRebuild != null) {
+                return;
+            }
+            registeredDuringRebuild = new ArrayList<>();
+        }
+        Snapshot snapshot;
+        try {
+            long settledId = settledId();
+            snapshot = primaryTransaction.execute(status -> {
+                Long maxId = postRepository.findMaxId();
+                long boundary = maxId == null ? 0L : Math.min(maxId, settledId);
+                return new Snapshot(boundary, postRepository.countByLocationUpTo(boundary));
+            });
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                registeredDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        ConcurrentHashMap<String, LongAdder> rebuilt = new ConcurrentHashMap<>();
+        add(rebuilt, snapshot.counts());
+        synchronized (rebuildLock) {
+            registeredAboveBoundary.clear();
+            for (PostRegisteredEvent event : registeredDuringRebuild) {
+                if (event.postId() > snapshot.maxId()) {
+                    increase(rebuilt, event.location());
+                    registeredAboveBoundary.put(event.postId(), event.location());
+                }
+            }
+            registeredDuringRebuild = null;
+            counts = rebuilt;
+            scanBoundary = snapshot.maxId();
+        }
+        log.info("Post location facets rebuilt with {} locations in {} ms",
+                rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Counts the posts between the boundary and the settled ones on a replica, and moves the boundary there.
+     * Skipped until the startup rebuild finished and while a rebuild runs.
+     */
+    @Scheduled(initialDelayString = "${post.location-facets.catch-up-interval:PT30S}",
+            fixedDelayString = "${post.location-facets.catch-up-interval:PT30S}")
+    public void catchUp() {
+        long from = scanBoundary;
+        long to = settledId();
+        if (!rebuildOnStartup || from == Long.MAX_VALUE || to <= from) {
+            return;
+        }
+        synchronized (rebuildLock) {
+            if (registeredDuringRebuild != null) {
+                return;
+            }
+        }
+        List<LocationCount> caughtUp = readOnlyTransaction.execute(
+                status -> postRepository.countByLocationBetween(from, to));
+        synchronized (rebuildLock) {
+            if (scanBoundary != from) {
+                return;
+            }
+            add(counts, caughtUp);
+            NavigableMap<Long, String> counted = registeredAboveBoundary.headMap(to, true);
+            counted.values().forEach(location -> counts.get(location).decrement());
+            counted.clear();
+            scanBoundary = to;
+        }
+    }
+
+    private long settledId() {
+        return TimeOrderedIdSequence.lowestIdAt(Instant.now().minus(catchUpSettleTime));
+    }
+
+    private static void add(ConcurrentHashMap<String, LongAdder> target, List<LocationCount> counts) {
+        for (LocationCount count : counts) {
+            target.computeIfAbsent(count.location(), key -> new LongAdder()).add(count.count());
+        }
+    }
+
+    private static void increase(ConcurrentHashMap<String, LongAdder> target, String location) {
+        target.computeIfAbsent(location, key -> new LongAdder()).increment();
+    }
+
+    private record Snapshot(long maxId, List<LocationCount> counts) {
+    }
+}
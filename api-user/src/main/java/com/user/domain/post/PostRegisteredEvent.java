@@ -0,0 +1,10 @@
+package com.user.domain.post;
+
+import com.storage.entity.Post;
+
+public record PostRegisteredEvent(Long postId, String location, String title, String content) {
+
+    public static PostRegisteredEvent of(Post post) {
+        return new PostRegisteredEvent(post.getId(), post.getLocation(), post.getTitle(), post.getContent());
+    }
+}
@@ -0,0 +1,180 @@
+package com.user.domain.post;
+
+import com.search.index.InvertedIndex;
+import com.search.index.SearchCursor;
+import com.search.index.SearchQuery;
+import com.search.index.SearchResult;
+import com.search.tokenizer.NGramTokenizer;
+import com.storage.id.TimeOrderedIdSequence;
+import com.storage.projection.PostDocument;
+import com.storage.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory full text index over all posts. Local registrations are indexed right after commit, posts written by
+ * other instances are picked up by a periodic catch-up that reads the posts above the last indexed id. A post
+ * committed late or with an id from a slightly skewed clock can land below that id, so the catch-up also lists
+ * the ids within the overlap window and loads only those missing from the index.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex implements MeterBinder {
+
+    private static final String REBUILD_THREAD_NAME = "post-search-rebuild";
+
+    private final PostRepository postRepository;
+    private final boolean rebuildOnStartup;
+    private final int rebuildBatchSize;
+    private final Duration catchUpOverlap;
+    private final Object swapLock = new Object();
+    private volatile InvertedIndex index = newIndex();
+    private final AtomicLong lastIndexedId = new AtomicLong();
+    private List<PostDocument> registeredDuringRebuild;
+
+    public PostSearchIndex(PostRepository postRepository,
+                           @Value("${search.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                           @Value("${search.rebuild-batch-size:1000}") int rebuildBatchSize,
+                           @Value("${search.catch-up-overlap:1m}") Duration catchUpOverlap) {
+        this.postRepository = postRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.catchUpOverlap = catchUpOverlap;
+    }
+
+    public SearchResult search(String query, String location, SearchCursor after, int size) {
+        return index.search(new SearchQuery(query, location, after, size));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostRegistered(PostRegisteredEvent event) {
+        PostDocument document = new PostDocument(event.postId(), event.location(), event.title(), event.content());
+        synchronized (swapLock) {
+            if (registeredDuringRebuild != null) {
+                registeredDuringRebuild.add(document);
+            }
+            add(index, document);
+        }
+    }
+
+    /**
+     * The index lives in memory only, so it is filled from the post table in the background after startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup) {
+            Thread.ofPlatform().name(REBUILD_THREAD_NAME).daemon().start(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild post search index", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Builds a fresh index in id order, so every posting list is only appended to, and swaps it in at the end.
+     * Posts registered meanwhile keep being served from the old index and are replayed into the new one before
+     * the swap; fed straight into the new index their higher ids would force every older document after them
+     * into the middle of the posting lists.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        synchronized (swapLock) {
+            if (registeredDuringRebuild != null) {
+                log.warn("Post search index rebuild already running, skipped");
+                return;
+            }
+            registeredDuringRebuild = new ArrayList<>();
+        }
+        InvertedIndex rebuilt = newIndex();
+        try {
+            scanAfter(rebuilt, 0L);
+        } finally {
+            synchronized (swapLock) {
+                List<PostDocument> registered = registeredDuringRebuild;
+                registeredDuringRebuild = null;
+                registered.sort(Comparator.comparing(PostDocument::id));
+                registered.forEach(document -> add(rebuilt, document));
+                index = rebuilt;
+            }
+        }
+        log.info("Post search index rebuilt with {} posts in {} ms",
+                rebuilt.documentCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(initialDelayString = "${search.catch-up-interval:PT10S}",
+            fixedDelayString = "${search.catch-up-interval:PT10S}")
+    public void catchUp() {
+        if (isRebuilding()) {
+            return;
+        }
+        long indexedUpTo = lastIndexedId.get();
+        scanAfter(index, indexedUpTo);
+
+        long windowStart = TimeOrderedIdSequence.lowestIdAt(Instant.now().minus(catchUpOverlap));
+        if (windowStart >= indexedUpTo) {
+            return;
+        }
+        InvertedIndex current = index;
+        List<Long> missing = postRepository.findIdsBetween(windowStart, indexedUpTo).stream()
+                .filter(id -> !current.contains(id))
+                .toList();
+        if (!missing.isEmpty()) {
+            postRepository.findDocumentsByIdIn(missing).forEach(document -> add(current, document));
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("search.index.documents", this, searchIndex -> searchIndex.index.documentCount())
+                .register(registry);
+        Gauge.builder("search.index.terms", this, searchIndex -> searchIndex.index.termCount())
+                .register(registry);
+    }
+
+    private void scanAfter(InvertedIndex target, long afterId) {
+        long lastId = afterId;
+        List<PostDocument> documents;
+        do {
+            documents = postRepository.findDocumentsAfter(lastId, Limit.of(rebuildBatchSize));
+            for (PostDocument document : documents) {
+                add(target, document);
+                lastId = document.id();
+            }
+        } while (documents.size() == rebuildBatchSize);
+    }
+
+    private void add(InvertedIndex target, PostDocument document) {
+        target.add(document.id(), document.location(), document.title(), document.content());
+        lastIndexedId.accumulateAndGet(document.id(), Math::max);
+    }
+
+    private boolean isRebuilding() {
+        synchronized (swapLock) {
+            return registeredDuringRebuild != null;
+        }
+    }
+
+    private static InvertedIndex newIndex() {
+        return new InvertedIndex(new NGramTokenizer());
+    }
+}
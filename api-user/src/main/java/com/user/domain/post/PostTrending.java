@@ -0,0 +1,233 @@
+package com.user.domain.post;
+
+import com.storage.projection.PostActivity;
+import com.storage.repository.PostRepository;
+import com.user.utils.ranking.BoundedTopK;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Ranks posts by views decayed exponentially with {@code half-life}, a post's creation counts as one view.
+ * <p>
+ * Scores use forward decay: instead of shrinking every score as time passes, each new view is weighted by
+ * {@code exp(lambda * (t - landmark))}, so older views weigh relatively less and no score is touched on reads.
+ * The landmark moves forward and all scores are scaled down once the weights grow large.
+ * <p>
+ * Views are only added to a concurrent buffer on the request path and folded into the rankings under a lock by
+ * {@link #drain()}, which runs every {@code drain-interval} and before every read. At most {@code max-locations}
+ * locations are ranked, a new location replaces the one with the lowest decayed total and inherits that total,
+ * so free-text locations seen once cannot grow the rankings without bound.
+ */
+@Slf4j
+@Component
+public class PostTrending {
+
+    private static final String SEED_THREAD_NAME = "post-trending-seed";
+    private static final double MAX_EXPONENT = 50.0;
+    private static final int SEED_HALF_LIVES = 8;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration halfLife;
+    private final double lambdaPerMilli;
+    private final int locationCapacity;
+    private final int maxLocations;
+    private final boolean seedOnStartup;
+    private final ConcurrentHashMap<PendingView, Double> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock rankingLock = new ReentrantLock();
+    private final BoundedTopK global;
+    private final Map<String, LocationRanking> byLocation = new HashMap<>();
+    private volatile long landmarkMillis;
+
+    public PostTrending(PostRepository postRepository,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${post.trending.half-life:6h}") Duration halfLife,
+                        @Value("${post.trending.capacity:1000}") int capacity,
+                        @Value("${post.trending.location-capacity:100}") int locationCapacity,
+                        @Value("${post.trending.max-locations:1000}") int maxLocations,
+                        @Value("${post.trending.seed-on-startup:true}") boolean seedOnStartup) {
+        this.postRepository = postRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.halfLife = halfLife;
+        this.lambdaPerMilli = Math.log(2) / halfLife.toMillis();
+        this.locationCapacity = locationCapacity;
+        this.maxLocations = maxLocations;
+        this.seedOnStartup = seedOnStartup;
+        this.global = new BoundedTopK(capacity);
+        this.landmarkMillis = System.currentTimeMillis();
+    }
+
+    public void recordView(Long postId, String location, LocalDateTime now) {
+        buffer(postId, location, toMillis(now));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostRegistered(PostRegisteredEvent event) {
+        buffer(event.postId(), event.location(), System.currentTimeMillis());
+    }
+
+    public List<Long> getTrending(String location, int size) {
+        rankingLock.lock();
+        try {
+            drainPending();
+            if (location == null) {
+                return global.top(size);
+            }
+            LocationRanking ranking = byLocation.get(location);
+            return ranking == null ? List.of() : ranking.posts.top(size);
+        } finally {
+            rankingLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${post.trending.drain-interval:PT1S}")
+    public void drain() {
+        rankingLock.lock();
+        try {
+            drainPending();
+        } finally {
+            rankingLock.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        if (seedOnStartup) {
+            Thread.ofPlatform().name(SEED_THREAD_NAME).daemon().start(() -> {
+                try {
+                    seed();
+                } catch (RuntimeException e) {
+                    log.error("Failed to seed trending posts", e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Treats the stored views of recent posts as if they happened at creation, older posts would decay
+     * below any fresh view anyway.
+     */
+    public void seed() {
+        LocalDateTime since = LocalDateTime.now().minus(halfLife.multipliedBy(SEED_HALF_LIVES));
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<PostActivity> activities = postRepository.streamActivitiesSince(since)) {
+                activities.forEach(activity -> {
+                    rankingLock.lock();
+                    try {
+                        long atMillis = toMillis(activity.createdAt());
+                        double count = activity.views() + 1.0;
+                        rank(activity.id(), activity.location(),
+                                count * Math.exp(lambdaPerMilli * (atMillis - landmarkMillis)));
+                    } finally {
+                        rankingLock.unlock();
+                    }
+                });
+            }
+        });
+        log.info("Trending posts seeded with {} posts", global.size());
+    }
+
+    /**
+     * The weight is taken relative to the landmark read here and stored with it, so a rescale racing with this
+     * call cannot mix up landmarks.
+     */
+    private void buffer(Long postId, String location, long atMillis) {
+        long landmark = landmarkMillis;
+        double weight = Math.exp(lambdaPerMilli * (atMillis - landmark));
+        pending.merge(new PendingView(postId, location, landmark), weight, Double::sum);
+    }
+
+    private void drainPending() {
+        rescaleIfNeeded(System.currentTimeMillis());
+        for (PendingView view : pending.keySet()) {
+            Double weight = pending.remove(view);
+            if (weight != null) {
+                rank(view.postId(), view.location(),
+                        weight * Math.exp(lambdaPerMilli * (view.landmarkMillis() - landmarkMillis)));
+            }
+        }
+    }
+
+    private void rank(long postId, String location, double weight) {
+        global.add(postId, weight);
+        if (location == null) {
+            return;
+        }
+        LocationRanking ranking = byLocation.get(location);
+        if (ranking == null) {
+            ranking = new LocationRanking(new BoundedTopK(locationCapacity), evictQuietestLocationIfFull());
+            byLocation.put(location, ranking);
+        }
+        ranking.add(postId, weight);
+    }
+
+    private double evictQuietestLocationIfFull() {
+        if (byLocation.size() < maxLocations) {
+            return 0.0;
+        }
+        Map.Entry<String, LocationRanking> quietest = Collections.min(byLocation.entrySet(),
+                Comparator.comparingDouble(entry -> entry.getValue().total));
+        byLocation.remove(quietest.getKey());
+        return quietest.getValue().total;
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void rescaleIfNeeded(long nowMillis) {
+        double exponent = lambdaPerMilli * (nowMillis - landmarkMillis);
+        if (exponent < MAX_EXPONENT) {
+            return;
+        }
+        double factor = Math.exp(-exponent);
+        global.scale(factor);
+        byLocation.values().forEach(ranking -> ranking.scale(factor));
+        landmarkMillis = nowMillis;
+    }
+
+    private record PendingView(Long postId, String location, long landmarkMillis) {
+    }
+
+    private static final class LocationRanking {
+
+        private final BoundedTopK posts;
+        private double total;
+
+        private LocationRanking(BoundedTopK posts, double total) {
+            this.posts = posts;
+            this.total = total;
+        }
+
+        private void add(long postId, double weight) {
+            posts.add(postId, weight);
+            total += weight;
+        }
+
+        private void scale(double factor) {
+            posts.scale(factor);
+            total *= factor;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.user.domain.post;
+
+import com.storage.repository.PostRepository;
+import com.user.utils.counter.DeltaBuffer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private final PostRepository postRepository;
+    private final DeltaBuffer buffer = new DeltaBuffer();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile Map<Long, Long> flushing = Map.of();
+
+    public void increase(Long postId) {
+        buffer.add(postId, 1L);
+    }
+
+    /**
+     * Views not yet written to the post table, including a batch that is being flushed right now.
+     */
+    public long getViews(Long postId, int persistedViews) {
+        return persistedViews + buffer.pending(postId) + flushing.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * Guarded by a {@link ReentrantLock} rather than {@code synchronized}, a virtual thread waiting on the UPDATE
+     * would otherwise pin its carrier thread.
+     */
+    @Scheduled(fixedDelayString = "${post.view-counter.flush-interval:PT5S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = buffer.drain();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            flushing = deltas;
+            try {
+                postRepository.increaseViews(deltas);
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush views of {} posts, retrying on next flush", deltas.size(), e);
+                buffer.restore(deltas);
+            } finally {
+                flushing = Map.of();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
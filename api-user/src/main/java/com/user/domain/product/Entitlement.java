@@ -0,0 +1,26 @@
+package com.user.domain.product;
+
+import com.storage.entity.Product;
+import com.storage.entity.ProductLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of the product fields premium checks need, {@link #NONE} stands for a user without a product.
+ */
+public record Entitlement(ProductLevel level, LocalDateTime endAt) {
+
+    public static final Entitlement NONE = new Entitlement(null, null);
+
+    public static Entitlement of(Product product) {
+        return new Entitlement(product.getLevel(), product.getEndAt());
+    }
+
+    public static Entitlement of(ProductLevel level, LocalDateTime endAt) {
+        return level == null ? NONE : new Entitlement(level, endAt);
+    }
+
+    public boolean exists() {
+        return this != NONE;
+    }
+}
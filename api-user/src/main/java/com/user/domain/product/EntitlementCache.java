@@ -0,0 +1,101 @@
+package com.user.domain.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.storage.event.ProductChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Products are written by api-admin, whose changes never reach this process as events, so every entry is
+ * bounded by a TTL. Users without a product are only remembered for a few seconds, a purchase must show up
+ * almost immediately, while the eviction listener only covers product writes made by this instance.
+ */
+@Component
+public class EntitlementCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "entitlement";
+
+    private final Cache<Long, Entitlement> cache;
+
+    public EntitlementCache(@Value("${product.entitlement-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${product.entitlement-cache.expire-after-write:10m}") Duration expireAfterWrite,
+                            @Value("${product.entitlement-cache.expire-after-missing:5s}") Duration expireAfterMissing) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtProductEnd(expireAfterWrite, expireAfterMissing))
+                .recordStats()
+                .build();
+    }
+
+    public Entitlement get(Long userId, Function<Long, Entitlement> loader) {
+        Entitlement entitlement = cache.getIfPresent(userId);
+        if (entitlement != null) {
+            return entitlement;
+        }
+        entitlement = loader.apply(userId);
+        cache.put(userId, entitlement);
+        return entitlement;
+    }
+
+    /**
+     * Runs after commit so a concurrent miss cannot reload the pre-change product into the cache.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    private record ExpireAtProductEnd(Duration expireAfterWrite, Duration expireAfterMissing)
+            implements Expiry<Long, Entitlement> {
+
+        @Override
+        public long expireAfterCreate(Long key, Entitlement value, long currentTime) {
+            if (!value.exists()) {
+                return expireAfterMissing.toNanos();
+            }
+            if (value.endAt() == null) {
+                return expireAfterWrite.toNanos();
+            }
+            Duration untilEnd = Duration.between(LocalDateTime.now(), value.endAt());
+            if (untilEnd.isNegative()) {
+                return 0L;
+            }
+            return Math.min(untilEnd.toNanos(), expireAfterWrite.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Entitlement value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Entitlement value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -10,14 +10,22 @@ import java.time.LocalDateTime;
 public class ProductValidator {
     
     public boolean isPremiumProduct(Product product, LocalDateTime now) {
-        return isPremiumProductLevel(product) && !isExpired(product, now);
+        return isPremium(product.getLevel(), product.getEndAt(), now);
     }
 
-    private boolean isPremiumProductLevel(Product product) {
-        return product.getLevel() == ProductLevel.PREMIUM;
+    public boolean isPremiumEntitlement(Entitlement entitlement, LocalDateTime now) {
+        return isPremium(entitlement.level(), entitlement.endAt(), now);
     }
 
-    private boolean isExpired(Product product, LocalDateTime now) {
-        return product.getEndAt().isBefore(now);
+    private boolean isPremium(ProductLevel level, LocalDateTime endAt, LocalDateTime now) {
+        return isPremiumProductLevel(level) && !isExpired(endAt, now);
+    }
+
+    private boolean isPremiumProductLevel(ProductLevel level) {
+        return level == ProductLevel.PREMIUM;
+    }
+
+    private boolean isExpired(LocalDateTime endAt, LocalDateTime now) {
+        return endAt.isBefore(now);
     }
 }
@@ -0,0 +1,19 @@
+package com.user.domain.refreshtoken;
+
+import com.storage.entity.RefreshToken;
+import com.storage.entity.User;
+import com.user.utils.token.TokenHash;
+
+import java.time.LocalDateTime;
+
+public class RefreshTokenCreator {
+
+    public static RefreshToken create(User user, String refreshToken, String familyId, LocalDateTime expiresAt) {
+        return RefreshToken.builder()
+                .user(user)
+                .tokenHash(TokenHash.sha256Hex(refreshToken))
+                .familyId(familyId)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
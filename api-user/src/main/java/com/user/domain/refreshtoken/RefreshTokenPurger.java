@@ -0,0 +1,30 @@
+package com.user.domain.refreshtoken;
+
+import com.storage.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Used tokens are kept until they expire so a replay is still recognised as reuse; after that the signature
+ * check rejects them anyway and the rows can go.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurger {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Scheduled(initialDelayString = "${auth.refresh-token.purge-interval:PT1H}",
+            fixedDelayString = "${auth.refresh-token.purge-interval:PT1H}")
+    public void purge() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+}
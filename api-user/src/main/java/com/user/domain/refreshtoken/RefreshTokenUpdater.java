@@ -0,0 +1,22 @@
+package com.user.domain.refreshtoken;
+
+import com.storage.entity.RefreshToken;
+import com.storage.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenUpdater {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    /**
+     * Returns false when the token was already used, revoked or expired by the time the row was updated.
+     */
+    public boolean markUsed(RefreshToken refreshToken, LocalDateTime now) {
+        return refreshTokenRepository.markUsed(refreshToken.getId(), now) == 1;
+    }
+}
@@ -0,0 +1,79 @@
+package com.user.domain.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.storage.event.AccountChangedEvent;
+import com.storage.event.UserChangedEvent;
+import com.user.config.security.UserPrincipal;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class UserPrincipalCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "userPrincipal";
+
+    private final Cache<Long, UserPrincipal> cache;
+
+    public UserPrincipalCache(@Value("${auth.principal-cache.maximum-size:10000}") long maximumSize,
+                              @Value("${auth.principal-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * The loader is called outside the cache's internal lock so that a slow user lookup
+     * never blocks other keys; concurrent misses for the same user may load twice.
+     */
+    public UserPrincipal get(Long userId, Function<Long, UserPrincipal> loader) {
+        UserPrincipal principal = cache.getIfPresent(userId);
+        if (principal != null) {
+            return principal;
+        }
+        principal = loader.apply(userId);
+        cache.put(userId, principal);
+        return principal;
+    }
+
+    /**
+     * Runs after commit so a concurrent miss cannot reload the pre-change user into the cache. Writes made by
+     * other instances or api-admin are not seen here, they show up once the entry expires.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+
+    /**
+     * Principals are keyed by user id, account changes are rare enough to find their principal by a scan.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        cache.asMap().values().removeIf(principal -> event.accountId().equals(principal.getAccountId()));
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+}
@@ -0,0 +1,19 @@
+package com.user.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+public record CommentPageRequest(
+        Long cursor,
+
+        @Min(1)
+        @Max(100)
+        Integer size
+) {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    public int sizeOrDefault() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+}
@@ -0,0 +1,13 @@
+package com.user.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CommentRegisterRequest(
+        Long parentId,
+
+        @NotBlank
+        @Size(max = 1000)
+        String content
+) {
+}
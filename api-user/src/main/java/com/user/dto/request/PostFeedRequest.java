@@ -0,0 +1,23 @@
+package com.user.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+
+public record PostFeedRequest(
+        String cursor,
+
+        @Size(max = 15)
+        String location,
+
+        @Min(1)
+        @Max(100)
+        Integer size
+) {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    public int sizeOrDefault() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+}
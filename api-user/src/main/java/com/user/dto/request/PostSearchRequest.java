@@ -0,0 +1,28 @@
+package com.user.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record PostSearchRequest(
+        @NotBlank
+        @Size(max = 100)
+        String query,
+
+        @Size(max = 15)
+        String location,
+
+        String cursor,
+
+        @Min(1)
+        @Max(100)
+        Integer size
+) {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    public int sizeOrDefault() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+}
@@ -0,0 +1,10 @@
+package com.user.dto.response;
+
+import java.util.List;
+
+public record CommentPageResponse(List<CommentResponse> comments, Long nextCursor) {
+
+    public static CommentPageResponse of(List<CommentResponse> comments, Long nextCursor) {
+        return new CommentPageResponse(comments, nextCursor);
+    }
+}
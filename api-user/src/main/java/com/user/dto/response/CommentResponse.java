@@ -0,0 +1,30 @@
+package com.user.dto.response;
+
+import com.storage.projection.CommentRow;
+import com.user.domain.comment.CommentNode;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+public record CommentResponse(
+        Long id,
+        String content,
+        long replyCount,
+        LocalDateTime createdAt,
+        Long authorId,
+        String authorNickname,
+        List<CommentResponse> replies
+) {
+
+    public static CommentResponse of(CommentNode node, ToLongFunction<CommentRow> replyCount) {
+        CommentRow comment = node.getComment();
+        List<CommentResponse> replies = new ArrayList<>(node.getReplies().size());
+        for (CommentNode reply : node.getReplies()) {
+            replies.add(of(reply, replyCount));
+        }
+        return new CommentResponse(comment.id(), comment.content(), replyCount.applyAsLong(comment),
+                comment.createdAt(), comment.authorId(), comment.authorNickname(), replies);
+    }
+}
@@ -0,0 +1,8 @@
+package com.user.dto.response;
+
+public record LocationCountResponse(String location, long count) {
+
+    public static LocationCountResponse of(String location, long count) {
+        return new LocationCountResponse(location, count);
+    }
+}
@@ -0,0 +1,16 @@
+package com.user.dto.response;
+
+import com.user.enums.ErrorType;
+
+import java.util.Map;
+
+public record PostBulkFailure(long line, String message, Map<String, String> validations) {
+
+    public static PostBulkFailure of(long line, ErrorType errorType) {
+        return new PostBulkFailure(line, errorType.getMessage(), Map.of());
+    }
+
+    public static PostBulkFailure of(long line, ErrorType errorType, Map<String, String> validations) {
+        return new PostBulkFailure(line, errorType.getMessage(), validations);
+    }
+}
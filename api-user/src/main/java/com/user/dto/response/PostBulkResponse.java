@@ -0,0 +1,10 @@
+package com.user.dto.response;
+
+import java.util.List;
+
+public record PostBulkResponse(int imported, int failed, List<PostBulkFailure> failures) {
+
+    public static PostBulkResponse of(int imported, int failed, List<PostBulkFailure> failures) {
+        return new PostBulkResponse(imported, failed, failures);
+    }
+}
@@ -0,0 +1,10 @@
+package com.user.dto.response;
+
+import java.util.List;
+
+public record PostFeedResponse(List<PostSummaryResponse> posts, String nextCursor) {
+
+    public static PostFeedResponse of(List<PostSummaryResponse> posts, String nextCursor) {
+        return new PostFeedResponse(posts, nextCursor);
+    }
+}
@@ -0,0 +1,10 @@
+package com.user.dto.response;
+
+import java.util.List;
+
+public record PostLocationsResponse(List<LocationCountResponse> locations) {
+
+    public static PostLocationsResponse of(List<LocationCountResponse> locations) {
+        return new PostLocationsResponse(locations);
+    }
+}
@@ -0,0 +1,24 @@
+package com.user.dto.response;
+
+import com.storage.entity.Post;
+
+import java.time.LocalDateTime;
+
+public record PostResponse(
+        Long id,
+        String location,
+        String title,
+        String content,
+        long views,
+        long commentCount,
+        boolean needPremium,
+        LocalDateTime createdAt,
+        Long authorId,
+        String authorNickname
+) {
+
+    public static PostResponse of(Post post, long views, long commentCount) {
+        return new PostResponse(post.getId(), post.getLocation(), post.getTitle(), post.getContent(), views,
+                commentCount, post.isNeedPremium(), post.getCreatedAt(), post.getAuthor().getId(), post.getAuthor().getNickname());
+    }
+}
@@ -0,0 +1,23 @@
+package com.user.dto.response;
+
+import com.storage.projection.PostSummary;
+
+import java.time.LocalDateTime;
+
+public record PostSummaryResponse(
+        Long id,
+        String location,
+        String title,
+        long views,
+        long commentCount,
+        boolean needPremium,
+        LocalDateTime createdAt,
+        Long authorId,
+        String authorNickname
+) {
+
+    public static PostSummaryResponse of(PostSummary post, long views, long commentCount) {
+        return new PostSummaryResponse(post.id(), post.location(), post.title(), views, commentCount, post.needPremium(),
+                post.createdAt(), post.authorId(), post.authorNickname());
+    }
+}
@@ -0,0 +1,10 @@
+package com.user.dto.response;
+
+import java.util.List;
+
+public record PostTrendingResponse(List<PostSummaryResponse> posts) {
+
+    public static PostTrendingResponse of(List<PostSummaryResponse> posts) {
+        return new PostTrendingResponse(posts);
+    }
+}
@@ -0,0 +1,6 @@
+package com.user.enums;
+
+public enum AuthenticationMode {
+
+    LOOKUP, CLAIMS
+}
@@ -7,12 +7,14 @@ import org.springframework.http.HttpStatus;
 
 import static org.springframework.boot.logging.LogLevel.ERROR;
 import static org.springframework.boot.logging.LogLevel.INFO;
+import static org.springframework.boot.logging.LogLevel.WARN;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.PAYMENT_REQUIRED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @Getter
@@ -21,6 +23,8 @@ public enum ErrorType {
 
     DEFAULT_ERROR(INTERNAL_SERVER_ERROR, "An unexpected error has occurred", ERROR),
     INVALID_REQUEST(BAD_REQUEST, "Request validation failed", INFO),
+    INVALID_JSON(BAD_REQUEST, "Malformed JSON", INFO),
+    INVALID_CURSOR(BAD_REQUEST, "Invalid cursor", INFO),
     DUPLICATED_EMAIL(CONFLICT, "Email is already in use", INFO),
     UNAUTHORIZED_TOKEN(UNAUTHORIZED, "Unauthorized token", INFO),
     LOGIN_FAIL(UNAUTHORIZED, "Invalid email or password", INFO),
@@ -28,7 +32,10 @@ public enum ErrorType {
     ACCESS_DENIED(FORBIDDEN, "Access denied", INFO),
     LOGIN_REQUIRED(UNAUTHORIZED, "Login required", INFO),
     PRODUCT_NOT_FOUND(NOT_FOUND, "Product not found", INFO),
-    PRODUCT_PREMIUM_REQUIRED(PAYMENT_REQUIRED, "Product premium required", INFO);
+    POST_NOT_FOUND(NOT_FOUND, "Post not found", INFO),
+    COMMENT_NOT_FOUND(NOT_FOUND, "Comment not found", INFO),
+    PRODUCT_PREMIUM_REQUIRED(PAYMENT_REQUIRED, "Product premium required", INFO),
+    PASSWORD_ENCODER_BUSY(SERVICE_UNAVAILABLE, "Too many authentication requests, try again later", WARN);
 
     private final HttpStatus status;
     private final String message;
@@ -1,42 +1,91 @@
 package com.user.service;
 
 import com.storage.entity.Account;
+import com.storage.entity.Product;
+import com.storage.entity.RefreshToken;
 import com.storage.entity.User;
 import com.storage.repository.AccountRepository;
+import com.storage.repository.ProductRepository;
+import com.storage.repository.RefreshTokenRepository;
 import com.storage.repository.UserRepository;
 import com.user.config.security.UserPrincipal;
 import com.user.domain.account.AccountCreator;
+import com.user.domain.account.AccountUpdater;
+import com.user.domain.refreshtoken.RefreshTokenCreator;
+import com.user.domain.refreshtoken.RefreshTokenUpdater;
 import com.user.domain.user.UserCreator;
-import com.user.domain.user.UserUpdater;
+import com.user.domain.user.UserPrincipalCache;
 import com.user.dto.request.LoginRequest;
 import com.user.dto.request.UserRegisterRequest;
 import com.user.dto.response.TokenResponse;
 import com.user.utils.error.CommonException;
 import com.user.utils.token.JwtTokenProvider;
-import lombok.RequiredArgsConstructor;
+import com.user.utils.token.TokenClaims;
+import com.user.utils.token.TokenHash;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Date;
+import java.util.UUID;
 
 import static com.user.enums.ErrorType.DUPLICATED_EMAIL;
 import static com.user.enums.ErrorType.LOGIN_FAIL;
+import static com.user.enums.ErrorType.UNAUTHORIZED_TOKEN;
 import static com.user.enums.ErrorType.USER_NOT_FOUND;
 import static com.user.enums.TokenType.ACCESS;
 import static com.user.enums.TokenType.REFRESH;
 
+/**
+ * Passwords are hashed on a bounded executor that may queue, so register and login never wait for a hash while
+ * holding a connection: the account is read in its own short call, hashed outside any transaction, and written
+ * in a transaction of its own.
+ */
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
-    private final UserUpdater userUpdater;
+    private final AccountUpdater accountUpdater;
+    private final RefreshTokenUpdater refreshTokenUpdater;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TransactionTemplate primaryTransaction;
 
-    @Transactional
+    public AuthService(AccountRepository accountRepository,
+                       UserRepository userRepository,
+                       ProductRepository productRepository,
+                       RefreshTokenRepository refreshTokenRepository,
+                       PasswordEncoder passwordEncoder,
+                       AccountUpdater accountUpdater,
+                       RefreshTokenUpdater refreshTokenUpdater,
+                       JwtTokenProvider jwtTokenProvider,
+                       UserPrincipalCache userPrincipalCache,
+                       PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.userRepository = userRepository;
+        this.productRepository = productRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.accountUpdater = accountUpdater;
+        this.refreshTokenUpdater = refreshTokenUpdater;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userPrincipalCache = userPrincipalCache;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * The email check is only a fast path, two concurrent registrations are told apart by the unique index.
+     */
     public void register(UserRegisterRequest request) {
         accountRepository.findByEmail(request.email()).ifPresent(account -> {
             throw new CommonException(DUPLICATED_EMAIL);
@@ -45,40 +94,101 @@ public class AuthService {
         Account account = AccountCreator.create(request.email(), request.password(), passwordEncoder);
         User user = UserCreator.create(account, request.nickname(), request.profileImageUrl(), request.bio());
 
-        accountRepository.save(account);
-        userRepository.save(user);
+        try {
+            primaryTransaction.executeWithoutResult(status -> {
+                accountRepository.save(account);
+                userRepository.save(user);
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new CommonException(DUPLICATED_EMAIL);
+        }
     }
 
-    @Transactional
+    /**
+     * The account is read on the primary, so a password changed a moment ago is never checked against a lagging
+     * replica. A rehash is only stored if the password was not changed while it was computed.
+     */
     public TokenResponse login(LoginRequest loginRequest) {
-        User user = userRepository.findByAccountEmail(loginRequest.email())
+        User user = primaryTransaction.execute(status -> userRepository.findByAccountEmail(loginRequest.email()))
                 .orElseThrow(() -> new CommonException(LOGIN_FAIL));
 
-        if (!passwordEncoder.matches(loginRequest.password(), user.getAccount().getPassword())) {
+        String storedPassword = user.getAccount().getPassword();
+        if (!passwordEncoder.matches(loginRequest.password(), storedPassword)) {
             throw new CommonException(LOGIN_FAIL);
         }
+        String rehashedPassword = passwordEncoder.upgradeEncoding(storedPassword)
+                ? passwordEncoder.encode(loginRequest.password())
+                : null;
 
-        TokenResponse tokens = createTokens(user.getId(), new Date());
-        userUpdater.updateRefreshToken(user, tokens.refreshToken());
-        return tokens;
+        return primaryTransaction.execute(status -> {
+            if (rehashedPassword != null) {
+                accountRepository.findById(user.getAccount().getId())
+                        .filter(account -> account.getPassword().equals(storedPassword))
+                        .ifPresent(account -> accountUpdater.updatePassword(account, rehashedPassword));
+            }
+            return createTokens(user, UUID.randomUUID().toString(), new Date());
+        });
+    }
+
+    public UserPrincipal getUserPrincipal(TokenClaims claims) {
+        if (jwtTokenProvider.isClaimsMode() && claims.hasPrincipalClaims()) {
+            return UserPrincipal.of(claims);
+        }
+        return getUserPrincipal(claims.userId());
     }
 
     public UserPrincipal getUserPrincipal(Long userId) {
+        return userPrincipalCache.get(userId, this::loadUserPrincipal);
+    }
+
+    /**
+     * Refresh tokens are single use, a reissue rotates it within the same family.
+     * Presenting an already used token means it leaked, so the whole family is revoked.
+     * The token is marked used by a conditional update, so of two concurrent reissues only one wins
+     * and the other is treated as reuse.
+     */
+    @Transactional(noRollbackFor = CommonException.class)
+    public TokenResponse reissueAccessToken(String refreshToken) {
+        jwtTokenProvider.validateToken(REFRESH, refreshToken);
+        RefreshToken storedToken = refreshTokenRepository.findByTokenHashWithUser(TokenHash.sha256Hex(refreshToken))
+                .orElseThrow(() -> new CommonException(UNAUTHORIZED_TOKEN));
+
+        Date now = new Date();
+        LocalDateTime issuedAt = toLocalDateTime(now.getTime());
+        if (!storedToken.getExpiresAt().isAfter(issuedAt)) {
+            throw new CommonException(UNAUTHORIZED_TOKEN);
+        }
+        if (!refreshTokenUpdater.markUsed(storedToken, issuedAt)) {
+            refreshTokenRepository.revokeFamily(storedToken.getFamilyId());
+            throw new CommonException(UNAUTHORIZED_TOKEN);
+        }
+
+        return createTokens(storedToken.getUser(), storedToken.getFamilyId(), now);
+    }
+
+    private UserPrincipal loadUserPrincipal(Long userId) {
         User user = userRepository.findByIdWithAccount(userId)
                 .orElseThrow(() -> new CommonException(USER_NOT_FOUND));
         return UserPrincipal.of(user);
     }
 
-    public String reissueAccessToken(String refreshToken) {
-        Long userId = jwtTokenProvider.getUserId(REFRESH, refreshToken);
-        User user = userRepository.findByIdAndRefreshToken(userId, refreshToken)
-                .orElseThrow(() -> new CommonException(USER_NOT_FOUND));
-        return jwtTokenProvider.generateToken(ACCESS, user.getId(), new Date());
+    private TokenResponse createTokens(User user, String familyId, Date now) {
+        String accessToken = jwtTokenProvider.generateToken(ACCESS, createAccessTokenClaims(user), now);
+        String refreshToken = jwtTokenProvider.generateToken(REFRESH, user.getId(), now);
+        LocalDateTime expiresAt = toLocalDateTime(now.getTime() + REFRESH.getValidityMilliseconds());
+        refreshTokenRepository.save(RefreshTokenCreator.create(user, refreshToken, familyId, expiresAt));
+        return TokenResponse.of(accessToken, refreshToken);
     }
 
-    private TokenResponse createTokens(Long userId, Date now) {
-        String accessToken = jwtTokenProvider.generateToken(ACCESS, userId, now);
-        String refreshToken = jwtTokenProvider.generateToken(REFRESH, userId, now);
-        return TokenResponse.of(accessToken, refreshToken);
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+
+    private TokenClaims createAccessTokenClaims(User user) {
+        if (!jwtTokenProvider.isClaimsMode()) {
+            return TokenClaims.of(user.getId());
+        }
+        Product product = productRepository.findByUser(user).orElse(null);
+        return TokenClaims.of(user, product);
     }
 }
@@ -0,0 +1,99 @@
+package com.user.service;
+
+import com.storage.entity.Comment;
+import com.storage.entity.Post;
+import com.storage.entity.User;
+import com.storage.projection.CommentRow;
+import com.storage.repository.CommentRepository;
+import com.storage.repository.PostRepository;
+import com.storage.repository.UserRepository;
+import com.user.domain.comment.CommentCounter;
+import com.user.domain.comment.CommentCreator;
+import com.user.domain.comment.CommentNode;
+import com.user.domain.comment.CommentRegisteredEvent;
+import com.user.domain.comment.CommentTreeAssembler;
+import com.user.dto.request.CommentPageRequest;
+import com.user.dto.request.CommentRegisterRequest;
+import com.user.dto.response.CommentPageResponse;
+import com.user.dto.response.CommentResponse;
+import com.user.utils.error.CommonException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.user.enums.ErrorType.COMMENT_NOT_FOUND;
+import static com.user.enums.ErrorType.POST_NOT_FOUND;
+
+@Service
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final CommentCounter commentCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxReplyDepth;
+
+    public CommentService(CommentRepository commentRepository,
+                          PostRepository postRepository,
+                          UserRepository userRepository,
+                          CommentCounter commentCounter,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${comment.max-reply-depth:3}") int maxReplyDepth) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.userRepository = userRepository;
+        this.commentCounter = commentCounter;
+        this.eventPublisher = eventPublisher;
+        this.maxReplyDepth = Math.max(maxReplyDepth, 1);
+    }
+
+    @Transactional
+    public void register(Long userId, Long postId, CommentRegisterRequest request) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new CommonException(POST_NOT_FOUND));
+        Comment parentComment = null;
+        if (request.parentId() != null) {
+            parentComment = commentRepository.findByIdAndPostId(request.parentId(), postId)
+                    .orElseThrow(() -> new CommonException(COMMENT_NOT_FOUND));
+        }
+        User author = userRepository.getReferenceById(userId);
+        Comment comment = CommentCreator.create(author, post, parentComment, request.content());
+        commentRepository.save(comment);
+        eventPublisher.publishEvent(CommentRegisteredEvent.of(comment));
+    }
+
+    /**
+     * Root comments are paged in SQL by id, which is time-ordered, so a cursor stays stable while new comments
+     * arrive. Their replies down to {@code maxReplyDepth} are then read with one recursive query and assembled
+     * in memory, a page never loads comments of other pages. The post is only looked up when the page is empty, to tell an empty thread from
+     * a missing post.
+     */
+    @Transactional(readOnly = true)
+    public CommentPageResponse getComments(Long postId, CommentPageRequest request) {
+        int size = request.sizeOrDefault();
+        Long cursor = request.cursor() == null ? 0L : request.cursor();
+        List<CommentRow> roots = commentRepository.findRootRowsAfter(postId, cursor, Limit.of(size + 1));
+        if (roots.isEmpty() && !postRepository.existsById(postId)) {
+            throw new CommonException(POST_NOT_FOUND);
+        }
+        boolean hasNext = roots.size() > size;
+        List<CommentRow> page = hasNext ? roots.subList(0, size) : roots;
+
+        List<CommentRow> rows = new ArrayList<>(page);
+        rows.addAll(commentRepository.findReplyRows(page.stream().map(CommentRow::id).toList(), maxReplyDepth));
+
+        List<CommentResponse> comments = new ArrayList<>(page.size());
+        for (CommentNode root : CommentTreeAssembler.assemble(rows, maxReplyDepth)) {
+            comments.add(CommentResponse.of(root,
+                    comment -> commentCounter.getReplyCount(comment.id(), comment.replyCount())));
+        }
+        Long nextCursor = hasNext ? page.get(size - 1).id() : null;
+        return CommentPageResponse.of(comments, nextCursor);
+    }
+}
@@ -1,21 +1,56 @@
 package com.user.service;
 
 import com.storage.entity.Post;
-import com.storage.entity.Product;
 import com.storage.entity.User;
 import com.storage.repository.PostRepository;
 import com.storage.repository.ProductRepository;
+import com.storage.repository.UserRepository;
+import com.search.index.SearchCursor;
+import com.search.index.SearchHit;
+import com.search.index.SearchResult;
+import com.storage.projection.PostSummary;
+import com.user.config.security.UserPrincipal;
+import com.user.domain.comment.CommentCounter;
+import com.user.domain.post.PostBulkImporter;
 import com.user.domain.post.PostCreator;
+import com.user.domain.post.PostCursor;
+import com.user.domain.post.PostLocationFacets;
+import com.user.domain.post.PostRegisteredEvent;
+import com.user.domain.post.PostSearchIndex;
+import com.user.domain.post.PostTrending;
+import com.user.domain.post.PostViewCounter;
+import com.user.domain.product.Entitlement;
+import com.user.domain.product.EntitlementCache;
 import com.user.domain.product.ProductValidator;
+import com.user.dto.request.PostFeedRequest;
 import com.user.dto.request.PostRegisterRequest;
+import com.user.dto.request.PostSearchRequest;
+import com.user.dto.request.PostTrendingRequest;
+import com.user.dto.response.LocationCountResponse;
+import com.user.dto.response.PostBulkResponse;
+import com.user.dto.response.PostFeedResponse;
+import com.user.dto.response.PostLocationsResponse;
+import com.user.dto.response.PostResponse;
+import com.user.dto.response.PostSummaryResponse;
+import com.user.dto.response.PostTrendingResponse;
 import com.user.enums.ErrorType;
 import com.user.utils.error.CommonException;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import static com.user.enums.ErrorType.INVALID_CURSOR;
+import static com.user.enums.ErrorType.POST_NOT_FOUND;
 import static com.user.enums.ErrorType.PRODUCT_NOT_FOUND;
 
 @Service
@@ -23,21 +58,155 @@ import static com.user.enums.ErrorType.PRODUCT_NOT_FOUND;
 public class PostService {
 
     private final ProductValidator productValidator;
+    private final EntitlementCache entitlementCache;
     private final ProductRepository productRepository;
     private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PostViewCounter postViewCounter;
+    private final PostBulkImporter postBulkImporter;
+    private final PostSearchIndex postSearchIndex;
+    private final PostLocationFacets postLocationFacets;
+    private final PostTrending postTrending;
+    private final CommentCounter commentCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public void register(User user, PostRegisterRequest request) {
+    public void register(UserPrincipal principal, PostRegisterRequest request) {
         if (request.needPremium()) {
-            Product product = productRepository.findByUser(user)
-                    .orElseThrow(() -> new CommonException(PRODUCT_NOT_FOUND));
-            boolean isPremium = productValidator.isPremiumProduct(product, LocalDateTime.now());
+            Entitlement entitlement = getEntitlement(principal);
+            if (!entitlement.exists()) {
+                throw new CommonException(PRODUCT_NOT_FOUND);
+            }
+            boolean isPremium = productValidator.isPremiumEntitlement(entitlement, LocalDateTime.now());
             if (!isPremium) {
                 throw new CommonException(ErrorType.PRODUCT_PREMIUM_REQUIRED);
             }
         }
+        User author = userRepository.getReferenceById(principal.getUserId());
         Post post = PostCreator.create(
-                user, request.location(), request.title(), request.content(), request.needPremium());
+                author, request.location(), request.title(), request.content(), request.needPremium());
         postRepository.save(post);
+        eventPublisher.publishEvent(PostRegisteredEvent.of(post));
+    }
+
+    /**
+     * Not transactional as a whole, every batch of the import commits on its own. The author is only
+     * referenced by id, the batches persist it as a foreign key without loading it.
+     */
+    public PostBulkResponse importPosts(UserPrincipal principal, InputStream body) {
+        User author = userRepository.getReferenceById(principal.getUserId());
+        return postBulkImporter.importPosts(author, body, () -> isPremiumAuthor(principal));
+    }
+
+    private boolean isPremiumAuthor(UserPrincipal principal) {
+        Entitlement entitlement = getEntitlement(principal);
+        return entitlement.exists() && productValidator.isPremiumEntitlement(entitlement, LocalDateTime.now());
+    }
+
+    /**
+     * In claims mode the product travels in the access token, so the premium check needs no lookup at all.
+     */
+    private Entitlement getEntitlement(UserPrincipal principal) {
+        if (principal.hasProductClaims()) {
+            return Entitlement.of(principal.getProductLevel(), principal.getProductEndAt());
+        }
+        return entitlementCache.get(principal.getUserId(), this::loadEntitlement);
+    }
+
+    private Entitlement loadEntitlement(Long userId) {
+        return productRepository.findByUserId(userId)
+                .map(Entitlement::of)
+                .orElse(Entitlement.NONE);
+    }
+
+    @Transactional(readOnly = true)
+    public PostFeedResponse getPosts(PostFeedRequest request) {
+        int size = request.sizeOrDefault();
+        // one extra row tells whether a next page exists without a count query
+        List<PostSummary> posts = findFeed(request, Limit.of(size + 1));
+
+        boolean hasNext = posts.size() > size;
+        List<PostSummary> page = hasNext ? posts.subList(0, size) : posts;
+        String nextCursor = hasNext ? PostCursor.of(page.get(size - 1)).encode() : null;
+        List<PostSummaryResponse> responses = page.stream()
+                .map(this::toSummaryResponse)
+                .toList();
+        return PostFeedResponse.of(responses, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public PostResponse getPost(Long postId) {
+        Post post = postRepository.findByIdWithAuthor(postId)
+                .orElseThrow(() -> new CommonException(POST_NOT_FOUND));
+        postViewCounter.increase(postId);
+        postTrending.recordView(postId, post.getLocation(), LocalDateTime.now());
+        return PostResponse.of(post, postViewCounter.getViews(postId, post.getViews()),
+                commentCounter.getCommentCount(postId, post.getCommentCount()));
+    }
+
+    @Transactional(readOnly = true)
+    public PostFeedResponse search(PostSearchRequest request) {
+        SearchCursor after = request.cursor() == null ? null : decodeSearchCursor(request.cursor());
+        SearchResult result = postSearchIndex.search(
+                request.query(), request.location(), after, request.sizeOrDefault());
+        if (result.hits().isEmpty()) {
+            return PostFeedResponse.of(List.of(), null);
+        }
+
+        List<Long> ids = result.hits().stream().map(SearchHit::docId).toList();
+        String nextCursor = result.next() == null ? null : result.next().encode();
+        return PostFeedResponse.of(findSummariesInOrder(ids), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public PostTrendingResponse getTrending(PostTrendingRequest request) {
+        List<Long> ids = postTrending.getTrending(request.location(), request.sizeOrDefault());
+        if (ids.isEmpty()) {
+            return PostTrendingResponse.of(List.of());
+        }
+        return PostTrendingResponse.of(findSummariesInOrder(ids));
+    }
+
+    private List<PostSummaryResponse> findSummariesInOrder(List<Long> ids) {
+        Map<Long, PostSummary> summaries = postRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+        return ids.stream()
+                .map(summaries::get)
+                .filter(Objects::nonNull)
+                .map(this::toSummaryResponse)
+                .toList();
+    }
+
+    private PostSummaryResponse toSummaryResponse(PostSummary post) {
+        return PostSummaryResponse.of(post, postViewCounter.getViews(post.id(), post.views()),
+                commentCounter.getCommentCount(post.id(), post.commentCount()));
+    }
+
+    public PostLocationsResponse getLocations() {
+        List<LocationCountResponse> locations = postLocationFacets.getCounts().stream()
+                .map(entry -> LocationCountResponse.of(entry.getKey(), entry.getValue()))
+                .toList();
+        return PostLocationsResponse.of(locations);
+    }
+
+    private SearchCursor decodeSearchCursor(String cursor) {
+        try {
+            return SearchCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new CommonException(INVALID_CURSOR);
+        }
+    }
+
+    private List<PostSummary> findFeed(PostFeedRequest request, Limit limit) {
+        String location = request.location();
+        if (request.cursor() == null) {
+            return location == null
+                    ? postRepository.findFeed(limit)
+                    : postRepository.findFeedByLocation(location, limit);
+        }
+        PostCursor cursor = PostCursor.decode(request.cursor());
+        return location == null
+                ? postRepository.findFeedAfter(cursor.createdAt(), cursor.id(), limit)
+                : postRepository.findFeedByLocationAfter(location, cursor.createdAt(), cursor.id(), limit);
     }
 }
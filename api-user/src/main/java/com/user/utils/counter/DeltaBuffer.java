@@ -0,0 +1,50 @@
+package com.user.utils.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accumulates per-id counter deltas in memory so hot paths never touch the database.
+ * Every entry is removed atomically when drained, an increment racing with {@link #drain()} either lands in
+ * the removed value or starts a new entry, so idle ids never stay in the map.
+ */
+public class DeltaBuffer {
+
+    private final ConcurrentHashMap<Long, Long> deltas = new ConcurrentHashMap<>();
+
+    public void add(Long id, long delta) {
+        deltas.merge(id, delta, DeltaBuffer::sumOrRemove);
+    }
+
+    public long pending(Long id) {
+        return deltas.getOrDefault(id, 0L);
+    }
+
+    /**
+     * Removes every counter and returns the non-zero deltas accumulated since the previous drain.
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long id : deltas.keySet()) {
+            Long delta = deltas.remove(id);
+            if (delta != null && delta != 0L) {
+                drained.put(id, delta);
+            }
+        }
+        return drained;
+    }
+
+    public void restore(Map<Long, Long> drained) {
+        drained.forEach(this::add);
+    }
+
+    int size() {
+        return deltas.size();
+    }
+
+    private static Long sumOrRemove(Long current, Long delta) {
+        long sum = current + delta;
+        return sum == 0L ? null : sum;
+    }
+}
@@ -0,0 +1,82 @@
+package com.user.utils.crypto;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_ROUNDS = 2;
+
+    @Getter
+    private final int strength;
+    private final BCryptPasswordEncoder delegate;
+
+    public AdaptiveBCryptPasswordEncoder(Duration targetLatency, int minStrength, int maxStrength) {
+        this.strength = calibrate(targetLatency, minStrength, maxStrength);
+        this.delegate = new BCryptPasswordEncoder(strength);
+        log.info("BCrypt strength calibrated to {} for target latency {}", strength, targetLatency);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * Only hashes weaker than the calibrated cost are upgraded. Hosts calibrate independently, so
+     * downgrading stronger hashes would make a faster and a slower host rehash the same password
+     * back and forth on every login.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    /**
+     * Each extra round doubles the hashing time, so the highest strength whose measured
+     * latency still fits the target is picked, never leaving the configured bounds.
+     */
+    private static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        long targetNanos = targetLatency.toNanos();
+        int calibrated = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            if (measure(candidate) > targetNanos) {
+                break;
+            }
+            calibrated = candidate;
+        }
+        return calibrated;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
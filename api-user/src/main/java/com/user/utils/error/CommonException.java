@@ -3,9 +3,20 @@ package com.user.utils.error;
 import com.user.enums.ErrorType;
 import lombok.Getter;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @Getter
 public class CommonException extends RuntimeException {
 
+    private static final Map<ErrorType, CommonException> STACKLESS = new EnumMap<>(ErrorType.class);
+
+    static {
+        for (ErrorType errorType : ErrorType.values()) {
+            STACKLESS.put(errorType, new CommonException(errorType, false));
+        }
+    }
+
     private final ErrorType errorType;
 
     public CommonException(ErrorType errorType) {
@@ -13,4 +24,17 @@ public class CommonException extends RuntimeException {
         this.errorType = errorType;
     }
 
+    private CommonException(ErrorType errorType, boolean writableStackTrace) {
+        super(errorType.getMessage(), null, false, writableStackTrace);
+        this.errorType = errorType;
+    }
+
+    /**
+     * Shared instance without a stack trace, meant for hot paths where the error is expected
+     * and frequent, such as rejecting an invalid token.
+     */
+    public static CommonException stackless(ErrorType errorType) {
+        return STACKLESS.get(errorType);
+    }
+
 }
@@ -0,0 +1,41 @@
+package com.user.utils.lock;
+
+import com.storage.repository.JobLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Leases on scheduled jobs kept in the job_lock table on the primary, so a job runs on one instance at a time.
+ * Lease times come from each instance's clock, a lease should outlast a run by far more than the clocks drift.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobLeases {
+
+    private final JobLockRepository jobLockRepository;
+    private final String owner = UUID.randomUUID().toString();
+
+    public boolean tryAcquire(String name, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        if (jobLockRepository.acquire(name, owner, now, now.plus(lease)) == 1) {
+            return true;
+        }
+        if (jobLockRepository.existsById(name)) {
+            return false;
+        }
+        try {
+            return jobLockRepository.create(name, owner, now.plus(lease)) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public void release(String name) {
+        jobLockRepository.release(name, owner, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,90 @@
+package com.user.utils.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Keeps at most {@code capacity} ids with the highest accumulated scores using the Space-Saving algorithm.
+ * When full, a new id always replaces the current minimum and inherits its score plus the new weight, so an id
+ * seen many times with small weights still gets in. The inherited part is kept as the entry's error: its true
+ * score lies between {@code score - error} and {@code score}. Not thread-safe.
+ */
+public class BoundedTopK {
+
+    private static final Comparator<Entry> BY_SCORE = Comparator.comparingDouble(Entry::score)
+            .thenComparingLong(Entry::id);
+
+    private final int capacity;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> ranking = new TreeSet<>(BY_SCORE);
+
+    public BoundedTopK(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public void add(long id, double weight) {
+        Entry current = entries.get(id);
+        if (current != null) {
+            ranking.remove(current);
+            put(new Entry(id, current.score() + weight, current.error()));
+            return;
+        }
+        if (entries.size() < capacity) {
+            put(new Entry(id, weight, 0.0));
+            return;
+        }
+        Entry minimum = ranking.pollFirst();
+        entries.remove(minimum.id());
+        put(new Entry(id, minimum.score() + weight, minimum.score()));
+    }
+
+    public List<Long> top(int size) {
+        List<Long> ids = new ArrayList<>(Math.min(size, entries.size()));
+        Iterator<Entry> iterator = ranking.descendingIterator();
+        while (iterator.hasNext() && ids.size() < size) {
+            ids.add(iterator.next().id());
+        }
+        return ids;
+    }
+
+    /**
+     * How much of the id's score may have been inherited from evicted ids, 0 for an id that is not tracked.
+     */
+    public double error(long id) {
+        Entry entry = entries.get(id);
+        return entry == null ? 0.0 : entry.error();
+    }
+
+    /**
+     * Multiplies every score and error by the same positive factor, which keeps the order unchanged.
+     */
+    public void scale(double factor) {
+        List<Entry> scaled = new ArrayList<>(entries.size());
+        for (Entry entry : entries.values()) {
+            scaled.add(new Entry(entry.id(), entry.score() * factor, entry.error() * factor));
+        }
+        entries.clear();
+        ranking.clear();
+        scaled.forEach(this::put);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void put(Entry entry) {
+        entries.put(entry.id(), entry);
+        ranking.add(entry);
+    }
+
+    private record Entry(long id, double score, double error) {
+    }
+}
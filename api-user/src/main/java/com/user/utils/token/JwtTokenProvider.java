@@ -1,10 +1,13 @@
 package com.user.utils.token;
 
+import com.storage.entity.ProductLevel;
+import com.user.enums.AuthenticationMode;
 import com.user.enums.ErrorType;
 import com.user.enums.TokenType;
 import com.user.utils.error.CommonException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,68 +15,129 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Base64;
 import java.util.Date;
-import java.util.Optional;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
 
     private static final String BEARER = "Bearer ";
+    private static final String USER_ID = "userId";
+    private static final String ACCOUNT_ID = "accountId";
+    private static final String NICKNAME = "nickname";
+    private static final String PRODUCT_LEVEL = "productLevel";
+    private static final String PRODUCT_END_AT = "productEndAt";
+
+    private final AuthenticationMode authenticationMode;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Map<TokenType, JwtParser> parsers = new EnumMap<>(TokenType.class);
 
     public JwtTokenProvider(@Value("${jwt.access-token.secret}") String accessSecret,
                             @Value("${jwt.access-token.valid-time}") Duration accessValidTime,
                             @Value("${jwt.refresh-token.secret}") String refreshSecret,
-                            @Value("${jwt.refresh-token.valid-time}") Duration refreshValidTime) {
+                            @Value("${jwt.refresh-token.valid-time}") Duration refreshValidTime,
+                            @Value("${jwt.authentication-mode:LOOKUP}") AuthenticationMode authenticationMode,
+                            VerifiedTokenCache verifiedTokenCache) {
         byte[] secretBytes = Base64.getDecoder().decode(accessSecret);
         TokenType.ACCESS.setSecretKey(Keys.hmacShaKeyFor(secretBytes));
         TokenType.ACCESS.setValidityMilliseconds(accessValidTime.toMillis());
         secretBytes = Base64.getDecoder().decode(refreshSecret);
         TokenType.REFRESH.setSecretKey(Keys.hmacShaKeyFor(secretBytes));
         TokenType.REFRESH.setValidityMilliseconds(refreshValidTime.toMillis());
+        for (TokenType tokenType : TokenType.values()) {
+            parsers.put(tokenType, Jwts.parser().verifyWith(tokenType.getSecretKey()).build());
+        }
+        this.authenticationMode = authenticationMode;
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    public boolean isClaimsMode() {
+        return authenticationMode == AuthenticationMode.CLAIMS;
     }
 
     public String generateToken(TokenType tokenType, Long userId, Date now) {
+        return generateToken(tokenType, TokenClaims.of(userId), now);
+    }
+
+    public String generateToken(TokenType tokenType, TokenClaims tokenClaims, Date now) {
         Date expiration = new Date(now.getTime() + tokenType.getValidityMilliseconds());
+        ProductLevel productLevel = tokenClaims.productLevel();
+        LocalDateTime productEndAt = tokenClaims.productEndAt();
+        // null valued claims are not written to the token
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(tokenType.name())
                 .signWith(tokenType.getSecretKey())
-                .claim("userId", userId)
+                .claim(USER_ID, tokenClaims.userId())
+                .claim(ACCOUNT_ID, tokenClaims.accountId())
+                .claim(NICKNAME, tokenClaims.nickname())
+                .claim(PRODUCT_LEVEL, productLevel == null ? null : productLevel.name())
+                .claim(PRODUCT_END_AT, productEndAt == null ? null : productEndAt.toString())
                 .issuedAt(now)
                 .expiration(expiration)
                 .compact();
     }
 
+    public void validateToken(TokenType tokenType, String token) {
+        getTokenClaims(tokenType, token);
+    }
+
     public Long getUserId(TokenType tokenType, String token) {
-        Claims claims = getClaims(tokenType, token);
-        return claims.get("userId", Long.class);
+        return getTokenClaims(tokenType, token).userId();
     }
 
-    public Optional<String> extractTokenFromHeader(String authorization) {
-        if (StringUtils.hasText(authorization) && authorization.startsWith(BEARER)) {
-            return Optional.of(authorization.substring(BEARER.length()));
+    public TokenClaims getTokenClaims(TokenType tokenType, String token) {
+        if (!StringUtils.hasText(token)) {
+            throw CommonException.stackless(ErrorType.UNAUTHORIZED_TOKEN);
         }
-        return Optional.empty();
+        return verifiedTokenCache.get(tokenType, token, t -> verify(tokenType, t));
+    }
+
+    public TokenClaims getTokenClaimsFromHeader(TokenType tokenType, String authorization) {
+        if (!hasBearerToken(authorization)) {
+            throw CommonException.stackless(ErrorType.UNAUTHORIZED_TOKEN);
+        }
+        return verifiedTokenCache.get(tokenType, authorization, BEARER.length(), t -> verify(tokenType, t));
+    }
+
+    public boolean hasBearerToken(String authorization) {
+        return StringUtils.hasText(authorization) && authorization.startsWith(BEARER);
+    }
+
+    private VerifiedTokenCache.VerifiedToken verify(TokenType tokenType, String token) {
+        Claims claims = getClaims(tokenType, token);
+        String productLevel = claims.get(PRODUCT_LEVEL, String.class);
+        String productEndAt = claims.get(PRODUCT_END_AT, String.class);
+        TokenClaims tokenClaims = new TokenClaims(
+                claims.get(USER_ID, Long.class),
+                claims.get(ACCOUNT_ID, Long.class),
+                claims.get(NICKNAME, String.class),
+                productLevel == null ? null : ProductLevel.valueOf(productLevel),
+                productEndAt == null ? null : LocalDateTime.parse(productEndAt)
+        );
+        return new VerifiedTokenCache.VerifiedToken(tokenClaims, claims.getExpiration());
     }
 
     private Claims getClaims(TokenType tokenType, String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(tokenType.getSecretKey())
-                    .build()
+            Claims claims = parsers.get(tokenType)
                     .parseSignedClaims(token)
                     .getPayload();
             String subject = claims.getSubject();
             validateSubject(tokenType, subject);
             return claims;
         } catch (JwtException | IllegalArgumentException e) {
-            throw new CommonException(ErrorType.UNAUTHORIZED_TOKEN);
+            throw CommonException.stackless(ErrorType.UNAUTHORIZED_TOKEN);
         }
     }
 
     private void validateSubject(TokenType tokenType, String subject) {
         if (subject == null || !subject.equals(tokenType.name())) {
-            throw new CommonException(ErrorType.UNAUTHORIZED_TOKEN);
+            throw CommonException.stackless(ErrorType.UNAUTHORIZED_TOKEN);
         }
     }
 }
@@ -0,0 +1,32 @@
+package com.user.utils.token;
+
+import com.storage.entity.Product;
+import com.storage.entity.ProductLevel;
+import com.storage.entity.User;
+
+import java.time.LocalDateTime;
+
+public record TokenClaims(
+        Long userId,
+        Long accountId,
+        String nickname,
+        ProductLevel productLevel,
+        LocalDateTime productEndAt
+) {
+
+    public static TokenClaims of(Long userId) {
+        return new TokenClaims(userId, null, null, null, null);
+    }
+
+    public static TokenClaims of(User user, Product product) {
+        if (product == null) {
+            return new TokenClaims(user.getId(), user.getAccount().getId(), user.getNickname(), null, null);
+        }
+        return new TokenClaims(user.getId(), user.getAccount().getId(), user.getNickname(),
+                product.getLevel(), product.getEndAt());
+    }
+
+    public boolean hasPrincipalClaims() {
+        return userId != null && accountId != null && nickname != null;
+    }
+}
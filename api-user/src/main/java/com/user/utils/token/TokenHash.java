@@ -0,0 +1,71 @@
+package com.user.utils.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class TokenHash {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    static final int SHA256_LENGTH = 32;
+    private static final int INITIAL_ASCII_LENGTH = 512;
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    public static String sha256Hex(String token) {
+        return HexFormat.of().formatHex(sha256(token));
+    }
+
+    /**
+     * Digests {@code source} from {@code offset} with the calling thread's digest and buffers, returns null when
+     * it holds a non ASCII character since such a value can never be a valid token. The returned array belongs to
+     * the thread and is overwritten by its next call, read it before digesting again. A virtual thread builds its
+     * own scratch on first use, which costs what a fresh digest did before.
+     */
+    static byte[] sha256Ascii(String source, int offset) {
+        Scratch scratch = SCRATCH.get();
+        int length = source.length() - offset;
+        byte[] ascii = scratch.ascii(length);
+        for (int i = 0; i < length; i++) {
+            char c = source.charAt(offset + i);
+            if (c > 0x7F) {
+                return null;
+            }
+            ascii[i] = (byte) c;
+        }
+        scratch.digest.update(ascii, 0, length);
+        try {
+            scratch.digest.digest(scratch.sha256, 0, SHA256_LENGTH);
+        } catch (DigestException e) {
+            throw new IllegalStateException(e);
+        }
+        return scratch.sha256;
+    }
+
+    private static byte[] sha256(String token) {
+        return newDigest().digest(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Scratch {
+
+        private final MessageDigest digest = newDigest();
+        private final byte[] sha256 = new byte[SHA256_LENGTH];
+        private byte[] ascii = new byte[INITIAL_ASCII_LENGTH];
+
+        private byte[] ascii(int length) {
+            if (ascii.length < length) {
+                ascii = new byte[Math.max(length, ascii.length * 2)];
+            }
+            return ascii;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.user.utils.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.user.enums.TokenType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "verifiedToken";
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final ThreadLocal<TokenDigest> LOOKUP_KEY = ThreadLocal.withInitial(TokenDigest::new);
+
+    private final Cache<TokenDigest, VerifiedToken> cache;
+
+    public VerifiedTokenCache(@Value("${auth.token-cache.maximum-size:10000}") long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpireAtTokenExpiration())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Only successfully verified tokens are cached, each entry expires at the token's own exp claim.
+     * The raw token is never stored, entries are keyed by its SHA-256 digest.
+     */
+    public TokenClaims get(TokenType tokenType, String token, Function<String, VerifiedToken> verifier) {
+        return get(tokenType, token, 0, verifier);
+    }
+
+    /**
+     * Looks up the token starting at {@code offset} of {@code source}, the token is only cut out of the source
+     * when it has to be verified. A hit reuses the thread's digest and lookup key and allocates nothing, a miss
+     * copies the key before it is stored.
+     */
+    public TokenClaims get(TokenType tokenType, String source, int offset, Function<String, VerifiedToken> verifier) {
+        TokenDigest lookupKey = LOOKUP_KEY.get();
+        if (!lookupKey.set(tokenType, source, offset)) {
+            return verifier.apply(source.substring(offset)).claims();
+        }
+        VerifiedToken verifiedToken = cache.getIfPresent(lookupKey);
+        if (verifiedToken != null) {
+            return verifiedToken.claims();
+        }
+        TokenDigest key = lookupKey.copy();
+        verifiedToken = verifier.apply(offset == 0 ? source : source.substring(offset));
+        cache.put(key, verifiedToken);
+        return verifiedToken.claims();
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    }
+
+    public record VerifiedToken(TokenClaims claims, Date expiration) {
+    }
+
+    /**
+     * The SHA-256 digest of a token as four longs. Stored keys are never changed, only the per thread lookup key
+     * is overwritten for each request.
+     */
+    private static final class TokenDigest {
+
+        private TokenType tokenType;
+        private long h0;
+        private long h1;
+        private long h2;
+        private long h3;
+
+        private boolean set(TokenType tokenType, String source, int offset) {
+            byte[] sha256 = TokenHash.sha256Ascii(source, offset);
+            if (sha256 == null) {
+                return false;
+            }
+            this.tokenType = tokenType;
+            this.h0 = (long) LONGS.get(sha256, 0);
+            this.h1 = (long) LONGS.get(sha256, Long.BYTES);
+            this.h2 = (long) LONGS.get(sha256, 2 * Long.BYTES);
+            this.h3 = (long) LONGS.get(sha256, 3 * Long.BYTES);
+            return true;
+        }
+
+        private TokenDigest copy() {
+            TokenDigest copy = new TokenDigest();
+            copy.tokenType = tokenType;
+            copy.h0 = h0;
+            copy.h1 = h1;
+            copy.h2 = h2;
+            copy.h3 = h3;
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TokenDigest other && tokenType == other.tokenType
+                    && h0 == other.h0 && h1 == other.h1 && h2 == other.h2 && h3 == other.h3;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tokenType.hashCode() + Long.hashCode(h0);
+        }
+    }
+
+    private static class ExpireAtTokenExpiration implements Expiry<TokenDigest, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0L));
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.user.support.fixture.entity;
+
+import com.storage.entity.RefreshToken;
+import com.storage.entity.User;
+import com.user.utils.token.TokenHash;
+
+import java.time.LocalDateTime;
+
+public class RefreshTokenFixtureFactory {
+
+    public static RefreshToken create(User user, String refreshToken) {
+        return RefreshToken.builder()
+                .user(user)
+                .tokenHash(TokenHash.sha256Hex(refreshToken))
+                .familyId("00000000-0000-0000-0000-000000000000")
+                .expiresAt(LocalDateTime.now().plusDays(7L))
+                .build();
+    }
+
+    public static RefreshToken createExpired(User user, String refreshToken) {
+        return RefreshToken.builder()
+                .user(user)
+                .tokenHash(TokenHash.sha256Hex(refreshToken))
+                .familyId("00000000-0000-0000-0000-000000000000")
+                .expiresAt(LocalDateTime.now().minusMinutes(1L))
+                .build();
+    }
+}
@@ -11,7 +11,6 @@ public class UserFixtureFactory {
                 .nickname("nickname")
                 .profileImageUrl("https://travel/profileImageUrl.png")
                 .bio("introduce myself")
-                .refreshToken("refreshToken")
                 .build();
     }
 }
@@ -0,0 +1,44 @@
+package com.user.support.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the calling thread, registered as the session factory's
+ * statement inspector in the e2e test configuration. Only the test thread is counted, so schedulers and
+ * startup jobs running at the same time do not make the guard flaky.
+ */
+public class SqlStatementGuard implements StatementInspector {
+
+    private static final ThreadLocal<int[]> STATEMENTS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] statements = STATEMENTS.get();
+        if (statements != null) {
+            statements[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Runs {@code call} and fails when it issues more than {@code maxStatements} statements,
+     * which is how an N+1 regression shows up.
+     */
+    public static <T> T expectStatements(int maxStatements, Supplier<T> call) {
+        int[] statements = {0};
+        STATEMENTS.set(statements);
+        try {
+            T result = call.get();
+            assertThat(statements[0])
+                    .as("SQL statements issued")
+                    .isLessThanOrEqualTo(maxStatements);
+            return result;
+        } finally {
+            STATEMENTS.remove();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.user.config;
+
+import com.storage.metrics.QueryContext;
+import com.storage.metrics.QueryMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryMetricsFilterTest {
+
+    private final QueryMetrics queryMetrics = new QueryMetrics(Duration.ofMillis(100));
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("요청마다 실행된 쿼리 수와 실행 시간을 라우트별로 기록한다")
+    void recordPerRoute() throws Exception {
+        // given
+        QueryMetricsFilter filter = new QueryMetricsFilter(false);
+        filter.bindTo(registry);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, issueStatements(request, 2));
+
+        // then
+        assertThat(registry.get("http.server.requests.queries").tag("uri", "/posts/{postId}").summary().totalAmount())
+                .isEqualTo(2.0);
+        assertThat(registry.get("http.server.requests.jdbc").tag("uri", "/posts/{postId}").timer().count())
+                .isEqualTo(1L);
+        assertThat(response.getHeader("X-Query-Count")).isNull();
+        assertThat(QueryContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("헤더 노출이 켜져 있으면 쿼리 수와 실행 시간을 응답 헤더로 보낸다")
+    void exposeHeaders() throws Exception {
+        // given
+        QueryMetricsFilter filter = new QueryMetricsFilter(true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, issueStatements(request, 3));
+
+        // then
+        assertThat(response.getHeader("X-Query-Count")).isEqualTo("3");
+        assertThat(response.getHeader("X-Query-Time-Ms")).isEqualTo("3");
+        assertThat(response.getHeader("X-Slow-Query-Count")).isEqualTo("0");
+        assertThat(response.getContentAsString()).isEqualTo("body");
+    }
+
+    private FilterChain issueStatements(MockHttpServletRequest request, int count) {
+        return (servletRequest, servletResponse) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/posts/{postId}");
+            for (int i = 0; i < count; i++) {
+                queryMetrics.record("select " + i, Duration.ofMillis(1).toNanos());
+            }
+            servletResponse.getWriter().write("body");
+        };
+    }
+}
@@ -1,6 +1,5 @@
 package com.user.config.security;
 
-import com.storage.entity.User;
 import com.user.utils.error.CommonException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -59,7 +58,7 @@ class CurrentUserArgumentResolverTest {
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result).isInstanceOf(User.class);
+        assertThat(result).isInstanceOf(UserPrincipal.class);
     }
 
     @Test
@@ -121,7 +120,7 @@ class CurrentUserArgumentResolverTest {
 
         // then
         assertThat(result).isNotNull();
-        assertThat(result).isInstanceOf(User.class);
+        assertThat(result).isInstanceOf(UserPrincipal.class);
     }
 
     @Test
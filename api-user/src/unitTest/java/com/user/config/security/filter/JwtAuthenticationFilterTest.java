@@ -1,5 +1,6 @@
 package com.user.config.security.filter;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.storage.entity.User;
 import com.user.config.security.UserPrincipal;
 import com.user.service.AuthService;
@@ -7,22 +8,22 @@ import com.user.support.fixture.entity.AccountFixtureFactory;
 import com.user.support.fixture.entity.UserFixtureFactory;
 import com.user.utils.error.CommonException;
 import com.user.utils.token.JwtTokenProvider;
+import com.user.utils.token.TokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
-import java.util.Optional;
 
 import static com.user.enums.ErrorType.UNAUTHORIZED_TOKEN;
 import static com.user.enums.TokenType.ACCESS;
@@ -40,17 +41,19 @@ class JwtAuthenticationFilterTest {
     @Mock
     private AuthService authService;
     @Mock
-    private HandlerExceptionResolver resolver;
-    @Mock
     private HttpServletRequest request;
     @Mock
     private HttpServletResponse response;
     @Mock
     private FilterChain filterChain;
 
-    @InjectMocks
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @BeforeEach
+    void setUp() {
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, authService, new ObjectMapper());
+    }
+
     @Test
     @DisplayName("유효한 Authorization 헤더의 토큰이 주어지면 SecurityContext에 인증 정보를 설정한다")
     void validTokenSetsAuthenticationInSecurityContext() throws ServletException, IOException {
@@ -62,9 +65,10 @@ class JwtAuthenticationFilterTest {
         String authorization = "Bearer " + token;
 
         given(request.getHeader(AUTHORIZATION)).willReturn(authorization);
-        given(jwtTokenProvider.extractTokenFromHeader(authorization)).willReturn(Optional.of(token));
-        given(jwtTokenProvider.getUserId(ACCESS, token)).willReturn(userId);
-        given(authService.getUserPrincipal(userId)).willReturn(principal);
+        given(jwtTokenProvider.hasBearerToken(authorization)).willReturn(true);
+        TokenClaims claims = TokenClaims.of(userId);
+        given(jwtTokenProvider.getTokenClaimsFromHeader(ACCESS, authorization)).willReturn(claims);
+        given(authService.getUserPrincipal(claims)).willReturn(principal);
 
         // when
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -78,23 +82,27 @@ class JwtAuthenticationFilterTest {
     }
 
     @Test
-    @DisplayName("유효하지 않은 Authorization 헤더의 토큰이 주어지면 예외를 처리한다")
-    void invalidTokenThrowsCommonExceptionAndResolvesException() throws ServletException, IOException {
+    @DisplayName("유효하지 않은 Authorization 헤더의 토큰이 주어지면 에러 응답을 작성한다")
+    void invalidTokenWritesErrorResponse() throws ServletException, IOException {
         // given
         String token = "invalidToken";
         String authorizationHeader = "Bearer " + token;
-        CommonException commonException = new CommonException(UNAUTHORIZED_TOKEN);
+        MockHttpServletResponse errorResponse = new MockHttpServletResponse();
 
         given(request.getHeader(AUTHORIZATION)).willReturn(authorizationHeader);
-        given(jwtTokenProvider.extractTokenFromHeader(authorizationHeader)).willReturn(Optional.of(token));
-        given(jwtTokenProvider.getUserId(ACCESS, token)).willThrow(commonException);
+        given(jwtTokenProvider.hasBearerToken(authorizationHeader)).willReturn(true);
+        given(jwtTokenProvider.getTokenClaimsFromHeader(ACCESS, authorizationHeader))
+                .willThrow(CommonException.stackless(UNAUTHORIZED_TOKEN));
 
         // when
-        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+        jwtAuthenticationFilter.doFilterInternal(request, errorResponse, filterChain);
 
         // then
-        verify(resolver).resolveException(request, response, null, commonException);
-        verify(filterChain, never()).doFilter(request, response);
+        assertThat(errorResponse.getStatus()).isEqualTo(401);
+        assertThat(errorResponse.getContentAsString())
+                .contains("\"code\":401")
+                .contains(UNAUTHORIZED_TOKEN.getMessage());
+        verify(filterChain, never()).doFilter(request, errorResponse);
     }
 
     @Test
@@ -280,15 +280,16 @@ class AuthControllerTest {
         // given
         AccessTokenReissueRequest request = AccessTokenReissueRequestFixtureFactory.createMockRefreshToken();
         String json = objectMapper.writeValueAsString(request);
-        String expectedAccessToken = "newAccessToken";
-        given(authService.reissueAccessToken(request.refreshToken())).willReturn(expectedAccessToken);
+        TokenResponse tokenResponse = TokenResponse.of("newAccessToken", "newRefreshToken");
+        given(authService.reissueAccessToken(request.refreshToken())).willReturn(tokenResponse);
 
         // when && then
         mockMvc.perform(patch("/auth/access-token")
                         .contentType(APPLICATION_JSON)
                         .content(json))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.accessToken").value(expectedAccessToken));
+                .andExpect(jsonPath("$.accessToken").value(tokenResponse.accessToken()))
+                .andExpect(jsonPath("$.refreshToken").value(tokenResponse.refreshToken()));
     }
 
     @Test
@@ -0,0 +1,141 @@
+package com.user.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.config.security.SecurityConfig;
+import com.user.config.security.WithMockUserPrincipal;
+import com.user.dto.request.CommentPageRequest;
+import com.user.dto.request.CommentRegisterRequest;
+import com.user.dto.response.CommentPageResponse;
+import com.user.dto.response.CommentResponse;
+import com.user.service.AuthService;
+import com.user.service.CommentService;
+import com.user.utils.error.CommonException;
+import com.user.utils.token.JwtTokenProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.user.enums.ErrorType.LOGIN_REQUIRED;
+import static com.user.enums.ErrorType.POST_NOT_FOUND;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = CommentController.class)
+@Import(SecurityConfig.class)
+class CommentControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private CommentService commentService;
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("댓글 조회가 성공하면 대댓글을 포함해 200 OK 응답을 반환한다")
+    void getCommentsSuccess() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        CommentResponse reply = new CommentResponse(2L, "reply", 0L, now, 1L, "nickname", List.of());
+        CommentResponse comment = new CommentResponse(1L, "comment", 1L, now, 1L, "nickname", List.of(reply));
+        given(commentService.getComments(eq(1L), any(CommentPageRequest.class)))
+                .willReturn(CommentPageResponse.of(List.of(comment), 1L));
+
+        // when && then
+        mockMvc.perform(get("/posts/1/comments").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments[0].replies[0].content").value("reply"))
+                .andExpect(jsonPath("$.nextCursor").value(1));
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("조회 개수가 범위를 벗어나면 400 Bad Request 응답을 반환한다")
+    void getCommentsWithInvalidSize() throws Exception {
+        // when && then
+        mockMvc.perform(get("/posts/1/comments").param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validations.size").isNotEmpty());
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("존재하지 않는 게시물의 댓글을 조회하면 404 Not Found 응답을 반환한다")
+    void getCommentsWhenPostNotFound() throws Exception {
+        // given
+        given(commentService.getComments(eq(1L), any(CommentPageRequest.class)))
+                .willThrow(new CommonException(POST_NOT_FOUND));
+
+        // when && then
+        mockMvc.perform(get("/posts/1/comments"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(POST_NOT_FOUND.getMessage()));
+    }
+
+    @Test
+    @WithMockUserPrincipal
+    @DisplayName("댓글 등록이 성공하면 201 Created 응답을 반환한다")
+    void registerCommentSuccess() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(new CommentRegisterRequest(null, "comment"));
+
+        // when && then
+        mockMvc.perform(post("/posts/1/comments")
+                        .contentType(APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @WithMockUserPrincipal
+    @DisplayName("댓글 내용이 비어 있으면 400 Bad Request 응답을 반환한다")
+    void registerCommentWithBlankContent() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(new CommentRegisterRequest(null, " "));
+
+        // when && then
+        mockMvc.perform(post("/posts/1/comments")
+                        .contentType(APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validations.content").isNotEmpty());
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("로그인 하지 않으면 댓글 등록시 401 Unauthorized 응답을 반환한다")
+    void registerCommentWhenNotLogin() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(new CommentRegisterRequest(null, "comment"));
+
+        // when && then
+        mockMvc.perform(post("/posts/1/comments")
+                        .contentType(APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value(LOGIN_REQUIRED.getMessage()));
+    }
+}
@@ -1,10 +1,19 @@
 package com.user.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.storage.entity.User;
 import com.user.config.security.SecurityConfig;
+import com.user.config.security.UserPrincipal;
 import com.user.config.security.WithMockUserPrincipal;
+import com.user.dto.request.PostFeedRequest;
 import com.user.dto.request.PostRegisterRequest;
+import com.user.dto.request.PostSearchRequest;
+import com.user.dto.request.PostTrendingRequest;
+import com.user.dto.response.PostBulkResponse;
+import com.user.dto.response.LocationCountResponse;
+import com.user.dto.response.PostFeedResponse;
+import com.user.dto.response.PostLocationsResponse;
+import com.user.dto.response.PostResponse;
+import com.user.dto.response.PostTrendingResponse;
 import com.user.service.AuthService;
 import com.user.service.PostService;
 import com.user.support.fixture.dto.request.PostRegisterRequestFixtureFactory;
@@ -21,17 +30,25 @@ import org.springframework.context.annotation.Import;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.stream.Stream;
 
+import static com.user.enums.ErrorType.INVALID_CURSOR;
 import static com.user.enums.ErrorType.INVALID_REQUEST;
 import static com.user.enums.ErrorType.LOGIN_REQUIRED;
+import static com.user.enums.ErrorType.POST_NOT_FOUND;
 import static com.user.enums.ErrorType.PRODUCT_NOT_FOUND;
 import static com.user.enums.ErrorType.PRODUCT_PREMIUM_REQUIRED;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -95,7 +112,7 @@ class PostControllerTest {
         // given
         PostRegisterRequest request = PostRegisterRequestFixtureFactory.createWithNeedPremium(true);
         String json = objectMapper.writeValueAsString(request);
-        doThrow(new CommonException(PRODUCT_PREMIUM_REQUIRED)).when(postService).register(any(User.class), eq(request));
+        doThrow(new CommonException(PRODUCT_PREMIUM_REQUIRED)).when(postService).register(any(UserPrincipal.class), eq(request));
 
         // when && then
         mockMvc.perform(post("/posts")
@@ -113,7 +130,7 @@ class PostControllerTest {
         // given
         PostRegisterRequest request = PostRegisterRequestFixtureFactory.createWithNeedPremium(true);
         String json = objectMapper.writeValueAsString(request);
-        doThrow(new CommonException(PRODUCT_NOT_FOUND)).when(postService).register(any(User.class), eq(request));
+        doThrow(new CommonException(PRODUCT_NOT_FOUND)).when(postService).register(any(UserPrincipal.class), eq(request));
 
         // when && then
         mockMvc.perform(post("/posts")
@@ -195,4 +212,159 @@ class PostControllerTest {
                         )
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("게시물 목록 조회는 로그인 없이 200 OK 응답을 반환한다")
+    void getPostsSuccess() throws Exception {
+        // given
+        given(postService.getPosts(any(PostFeedRequest.class))).willReturn(PostFeedResponse.of(List.of(), null));
+
+        // when && then
+        mockMvc.perform(get("/posts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts").isEmpty());
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("게시물 목록 조회시 size가 범위를 벗어나면 400 Bad Request 응답을 반환한다")
+    void getPostsWhenSizeInvalid() throws Exception {
+        // when && then
+        mockMvc.perform(get("/posts").param("size", "101"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.validations.size").isNotEmpty());
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("게시물 목록 조회시 커서가 잘못되면 400 Bad Request 응답을 반환한다")
+    void getPostsWhenCursorInvalid() throws Exception {
+        // given
+        given(postService.getPosts(any(PostFeedRequest.class))).willThrow(new CommonException(INVALID_CURSOR));
+
+        // when && then
+        mockMvc.perform(get("/posts").param("cursor", "invalid"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(INVALID_CURSOR.getMessage()));
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("게시물 조회가 성공하면 200 OK 응답을 반환한다")
+    void getPostSuccess() throws Exception {
+        // given
+        PostResponse response = new PostResponse(1L, "싱가폴", "title", "content", 3L, 0L, false,
+                LocalDateTime.now(), 1L, "nickname");
+        given(postService.getPost(1L)).willReturn(response);
+
+        // when && then
+        mockMvc.perform(get("/posts/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.views").value(3));
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("존재하지 않는 게시물을 조회하면 404 Not Found 응답을 반환한다")
+    void getPostWhenNotFound() throws Exception {
+        // given
+        given(postService.getPost(1L)).willThrow(new CommonException(POST_NOT_FOUND));
+
+        // when && then
+        mockMvc.perform(get("/posts/1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(POST_NOT_FOUND.getMessage()));
+    }
+
+    @Test
+    @WithMockUserPrincipal
+    @DisplayName("게시물 일괄 등록이 성공하면 200 OK 응답과 결과를 반환한다")
+    void importPostsSuccess() throws Exception {
+        // given
+        given(postService.importPosts(any(UserPrincipal.class), any(InputStream.class)))
+                .willReturn(PostBulkResponse.of(2, 0, List.of()));
+
+        // when && then
+        mockMvc.perform(post("/posts/bulk")
+                        .contentType(APPLICATION_NDJSON)
+                        .content("{}\n{}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(0));
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("로그인 하지 않으면 게시물 일괄 등록시 401 Unauthorized 응답을 반환한다")
+    void importPostsWhenNotLogin() throws Exception {
+        // when && then
+        mockMvc.perform(post("/posts/bulk")
+                        .contentType(APPLICATION_NDJSON)
+                        .content("{}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value(LOGIN_REQUIRED.getMessage()));
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("게시물 검색은 로그인 없이 200 OK 응답을 반환한다")
+    void searchPostsSuccess() throws Exception {
+        // given
+        given(postService.search(any(PostSearchRequest.class))).willReturn(PostFeedResponse.of(List.of(), null));
+
+        // when && then
+        mockMvc.perform(get("/posts/search").param("query", "야경"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts").isEmpty());
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("검색어 없이 검색하면 400 Bad Request 응답을 반환한다")
+    void searchPostsWithoutQuery() throws Exception {
+        // when && then
+        mockMvc.perform(get("/posts/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validations.query").isNotEmpty());
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("장소별 게시물 수 조회는 로그인 없이 200 OK 응답을 반환한다")
+    void getLocationsSuccess() throws Exception {
+        // given
+        given(postService.getLocations())
+                .willReturn(PostLocationsResponse.of(List.of(LocationCountResponse.of("싱가폴", 3L))));
+
+        // when && then
+        mockMvc.perform(get("/posts/locations"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.locations[0].location").value("싱가폴"))
+                .andExpect(jsonPath("$.locations[0].count").value(3));
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("인기 게시물 조회는 로그인 없이 200 OK 응답을 반환한다")
+    void getTrendingSuccess() throws Exception {
+        // given
+        given(postService.getTrending(any(PostTrendingRequest.class))).willReturn(PostTrendingResponse.of(List.of()));
+
+        // when && then
+        mockMvc.perform(get("/posts/trending").param("location", "싱가폴"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts").isEmpty());
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("인기 게시물 조회시 size가 범위를 벗어나면 400 Bad Request 응답을 반환한다")
+    void getTrendingWhenSizeInvalid() throws Exception {
+        // when && then
+        mockMvc.perform(get("/posts/trending").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.validations.size").isNotEmpty());
+    }
+}
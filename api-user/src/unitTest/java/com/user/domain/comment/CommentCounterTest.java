@@ -0,0 +1,128 @@
+package com.user.domain.comment;
+
+import com.storage.repository.CommentRepository;
+import com.storage.repository.PostRepository;
+import com.user.utils.lock.JobLeases;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class CommentCounterTest {
+
+    private CommentCounter commentCounter;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private JobLeases jobLeases;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        commentCounter = new CommentCounter(postRepository, commentRepository, jobLeases, transactionManager, 2,
+                Duration.ofMinutes(1), Duration.ofMinutes(30));
+    }
+
+    @Test
+    @DisplayName("댓글 수는 저장된 값에 아직 반영되지 않은 댓글 수를 더한 값이다")
+    void getCountsIncludePendingComments() {
+        // given
+        commentCounter.onCommentRegistered(new CommentRegisteredEvent(10L, 1L, null));
+        commentCounter.onCommentRegistered(new CommentRegisteredEvent(11L, 1L, 10L));
+
+        // when
+        long commentCount = commentCounter.getCommentCount(1L, 3);
+        long replyCount = commentCounter.getReplyCount(10L, 0);
+
+        // then
+        assertThat(commentCount).isEqualTo(5L);
+        assertThat(replyCount).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("flush하면 게시물별 댓글 수와 댓글별 대댓글 수를 한 번에 반영한다")
+    void flushWritesPendingCounts() {
+        // given
+        commentCounter.onCommentRegistered(new CommentRegisteredEvent(10L, 1L, null));
+        commentCounter.onCommentRegistered(new CommentRegisteredEvent(11L, 1L, 10L));
+        commentCounter.onCommentRegistered(new CommentRegisteredEvent(12L, 2L, null));
+
+        // when
+        commentCounter.flush();
+
+        // then
+        then(postRepository).should().increaseCommentCounts(Map.of(1L, 2L, 2L, 1L));
+        then(commentRepository).should().increaseReplyCounts(Map.of(10L, 1L));
+        assertThat(commentCounter.getCommentCount(1L, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("flush에 실패하면 댓글 수를 잃지 않고 다음 flush에 다시 반영한다")
+    void failedFlushKeepsPendingCounts() {
+        // given
+        commentCounter.onCommentRegistered(new CommentRegisteredEvent(10L, 1L, null));
+        given(postRepository.increaseCommentCounts(anyMap())).willThrow(new IllegalStateException("db down"));
+
+        // when
+        commentCounter.flush();
+
+        // then
+        assertThat(commentCounter.getCommentCount(1L, 0)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("재조정하면 게시물과 댓글을 id 구간으로 나눠 구간마다 다시 센다")
+    void reconcileRecountsInChunks() {
+        // given
+        given(jobLeases.tryAcquire("comment-counter-reconcile", Duration.ofMinutes(30))).willReturn(true);
+        given(postRepository.findChunkEndAfter(0L, 2)).willReturn(2L);
+        given(postRepository.findChunkEndAfter(2L, 2)).willReturn(3L);
+        given(postRepository.findChunkEndAfter(3L, 2)).willReturn(null);
+        given(postRepository.recountCommentCounts(eq(0L), eq(2L), anyLong())).willReturn(2);
+        given(postRepository.recountCommentCounts(eq(2L), eq(3L), anyLong())).willReturn(1);
+        given(commentRepository.findChunkEndAfter(0L, 2)).willReturn(null);
+
+        // when
+        commentCounter.reconcile();
+
+        // then
+        then(postRepository).should().recountCommentCounts(eq(0L), eq(2L), anyLong());
+        then(postRepository).should().recountCommentCounts(eq(2L), eq(3L), anyLong());
+        then(commentRepository).should(never()).recountReplyCounts(anyLong(), anyLong(), anyLong());
+        then(jobLeases).should().release("comment-counter-reconcile");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 재조정 중이면 재조정하지 않는다")
+    void reconcileSkipsWithoutLease() {
+        // given
+        given(jobLeases.tryAcquire("comment-counter-reconcile", Duration.ofMinutes(30))).willReturn(false);
+
+        // when
+        commentCounter.reconcile();
+
+        // then
+        then(postRepository).shouldHaveNoInteractions();
+        then(commentRepository).shouldHaveNoInteractions();
+        then(jobLeases).should(never()).release(anyString());
+    }
+}
@@ -0,0 +1,84 @@
+package com.user.domain.comment;
+
+import com.storage.projection.CommentRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentTreeAssemblerTest {
+
+    @Test
+    @DisplayName("평탄하게 조회한 댓글로 대댓글 트리를 만든다")
+    void assembleTree() {
+        // given
+        List<CommentRow> rows = List.of(row(1L, null), row(2L, null), row(3L, 1L), row(4L, 3L), row(5L, 1L));
+
+        // when
+        List<CommentNode> roots = CommentTreeAssembler.assemble(rows, 3);
+
+        // then
+        assertThat(roots).extracting(node -> node.getComment().id()).containsExactly(1L, 2L);
+        CommentNode first = roots.get(0);
+        assertThat(first.getReplies()).extracting(node -> node.getComment().id()).containsExactly(3L, 5L);
+        assertThat(first.getReplies().get(0).getReplies()).extracting(node -> node.getComment().id())
+                .containsExactly(4L);
+        assertThat(roots.get(1).getReplies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("최대 깊이보다 깊은 대댓글은 최대 깊이에 있는 부모 댓글 옆에 붙는다")
+    void assembleTreeWithMaxDepth() {
+        // given
+        List<CommentRow> rows = List.of(row(1L, null), row(2L, 1L), row(3L, 2L), row(4L, 3L));
+
+        // when
+        List<CommentNode> roots = CommentTreeAssembler.assemble(rows, 1);
+
+        // then
+        List<CommentNode> replies = roots.get(0).getReplies();
+        assertThat(replies).extracting(node -> node.getComment().id()).containsExactly(2L, 3L, 4L);
+        assertThat(replies).allSatisfy(reply -> {
+            assertThat(reply.getDepth()).isEqualTo(1);
+            assertThat(reply.getReplies()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("대댓글의 id 가 부모 댓글보다 작아도 부모 댓글 아래에 붙는다")
+    void assembleTreeWhenReplyIdPrecedesParent() {
+        // given
+        List<CommentRow> rows = List.of(row(1L, null), row(2L, 3L), row(3L, 1L));
+
+        // when
+        List<CommentNode> roots = CommentTreeAssembler.assemble(rows, 3);
+
+        // then
+        assertThat(roots).extracting(node -> node.getComment().id()).containsExactly(1L);
+        CommentNode parent = roots.get(0).getReplies().get(0);
+        assertThat(parent.getComment().id()).isEqualTo(3L);
+        assertThat(parent.getReplies()).extracting(node -> node.getComment().id()).containsExactly(2L);
+        assertThat(parent.getReplies().get(0).getDepth()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("부모 댓글이 없는 대댓글은 제외한다")
+    void assembleTreeSkipsOrphans() {
+        // given
+        List<CommentRow> rows = List.of(row(1L, null), row(2L, 99L));
+
+        // when
+        List<CommentNode> roots = CommentTreeAssembler.assemble(rows, 3);
+
+        // then
+        assertThat(roots).hasSize(1);
+        assertThat(roots.get(0).getReplies()).isEmpty();
+    }
+
+    private CommentRow row(Long id, Long parentId) {
+        return new CommentRow(id, parentId, 1L, "nickname", "content" + id, 0, LocalDateTime.now());
+    }
+}
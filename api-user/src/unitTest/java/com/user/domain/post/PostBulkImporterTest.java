@@ -0,0 +1,126 @@
+package com.user.domain.post;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.storage.entity.Account;
+import com.storage.entity.Post;
+import com.storage.entity.User;
+import com.user.dto.response.PostBulkFailure;
+import com.user.dto.response.PostBulkResponse;
+import com.user.support.fixture.entity.AccountFixtureFactory;
+import com.user.support.fixture.entity.UserFixtureFactory;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.user.enums.ErrorType.INVALID_JSON;
+import static com.user.enums.ErrorType.INVALID_REQUEST;
+import static com.user.enums.ErrorType.PRODUCT_PREMIUM_REQUIRED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PostBulkImporterTest {
+
+    private static final String VALID = "{\"location\":\"싱가폴\",\"title\":\"title\",\"content\":\"content\",\"needPremium\":false}";
+    private static final String PREMIUM = "{\"location\":\"싱가폴\",\"title\":\"title\",\"content\":\"content\",\"needPremium\":true}";
+    private static final String INVALID = "{\"location\":\"\",\"title\":\"title\",\"content\":\"content\",\"needPremium\":false}";
+
+    @Mock
+    private PostBatchWriter postBatchWriter;
+
+    private PostBulkImporter postBulkImporter;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        postBulkImporter = new PostBulkImporter(new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), postBatchWriter, 2);
+        Account account = AccountFixtureFactory.create();
+        author = UserFixtureFactory.create(account);
+    }
+
+    @Test
+    @DisplayName("NDJSON은 배치 크기만큼 나누어 저장하고 유효하지 않은 줄은 건너뛴다")
+    void importNdjsonInBatches() {
+        // given
+        InputStream body = toStream(String.join("\n", VALID, INVALID, VALID, VALID));
+
+        // when
+        PostBulkResponse response = postBulkImporter.importPosts(author, body, () -> false);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Post>> captor = ArgumentCaptor.forClass(List.class);
+        then(postBatchWriter).should(times(2)).write(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+        assertThat(response.imported()).isEqualTo(3);
+        assertThat(response.failed()).isEqualTo(1);
+        assertThat(response.failures()).singleElement()
+                .satisfies(failure -> {
+                    assertThat(failure.line()).isEqualTo(2L);
+                    assertThat(failure.message()).isEqualTo(INVALID_REQUEST.getMessage());
+                    assertThat(failure.validations()).containsKey("location");
+                });
+    }
+
+    @Test
+    @DisplayName("JSON 배열도 한 건씩 읽어 저장한다")
+    void importJsonArray() {
+        // given
+        InputStream body = toStream("[" + VALID + "," + VALID + "]");
+
+        // when
+        PostBulkResponse response = postBulkImporter.importPosts(author, body, () -> false);
+
+        // then
+        then(postBatchWriter).should().write(anyList());
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.failures()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프리미엄 권한이 없으면 프리미엄 게시물만 실패로 보고한다")
+    void premiumPostsFailWithoutEntitlement() {
+        // given
+        InputStream body = toStream(String.join("\n", PREMIUM, VALID));
+
+        // when
+        PostBulkResponse response = postBulkImporter.importPosts(author, body, () -> false);
+
+        // then
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.failures()).extracting(PostBulkFailure::message)
+                .containsExactly(PRODUCT_PREMIUM_REQUIRED.getMessage());
+    }
+
+    @Test
+    @DisplayName("JSON 문법 오류가 있으면 그 줄에서 가져오기를 중단한다")
+    void stopAtSyntaxError() {
+        // given
+        InputStream body = toStream(String.join("\n", VALID, "{\"location\" \"싱가폴\"}", VALID));
+
+        // when
+        PostBulkResponse response = postBulkImporter.importPosts(author, body, () -> false);
+
+        // then
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.failures()).extracting(PostBulkFailure::message)
+                .containsExactly(INVALID_JSON.getMessage());
+    }
+
+    private InputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
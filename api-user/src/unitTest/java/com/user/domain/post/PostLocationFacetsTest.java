@@ -0,0 +1,128 @@
+package com.user.domain.post;
+
+import com.storage.projection.LocationCount;
+import com.storage.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class PostLocationFacetsTest {
+
+    private static final Duration SETTLE_TIME = Duration.ofMinutes(1);
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("재구성하면 장소별 게시물 수를 많은 순으로 반환한다")
+    void rebuildCountsLocations() {
+        // given
+        PostLocationFacets facets = new PostLocationFacets(postRepository, transactionManager, true, SETTLE_TIME);
+        given(postRepository.findMaxId()).willReturn(10L);
+        given(postRepository.countByLocationUpTo(10L)).willReturn(List.of(
+                new LocationCount("도쿄", 1L), new LocationCount("싱가폴", 2L)));
+
+        // when
+        facets.rebuild();
+
+        // then
+        assertThat(facets.getCounts()).containsExactly(Map.entry("싱가폴", 2L), Map.entry("도쿄", 1L));
+    }
+
+    @Test
+    @DisplayName("재구성 범위 안의 게시물 등록은 중복으로 세지 않는다")
+    void eventsWithinScanAreNotCountedTwice() {
+        // given
+        PostLocationFacets facets = new PostLocationFacets(postRepository, transactionManager, true, SETTLE_TIME);
+        given(postRepository.findMaxId()).willReturn(10L);
+        given(postRepository.countByLocationUpTo(10L)).willReturn(List.of(new LocationCount("싱가폴", 1L)));
+        facets.rebuild();
+
+        // when
+        facets.onPostRegistered(new PostRegisteredEvent(10L, "싱가폴", "title", "content"));
+        facets.onPostRegistered(new PostRegisteredEvent(11L, "싱가폴", "title", "content"));
+
+        // then
+        assertThat(facets.getCounts()).containsExactly(Map.entry("싱가폴", 2L));
+    }
+
+    @Test
+    @DisplayName("재구성을 하지 않으면 모든 게시물 등록을 센다")
+    void countEveryEventWithoutRebuild() {
+        // given
+        PostLocationFacets facets = new PostLocationFacets(postRepository, transactionManager, false, SETTLE_TIME);
+
+        // when
+        facets.onPostRegistered(new PostRegisteredEvent(1L, "싱가폴", "title", "content"));
+
+        // then
+        assertThat(facets.getCounts()).containsExactly(Map.entry("싱가폴", 1L));
+    }
+
+    @Test
+    @DisplayName("따라잡기하면 경계 이후 다른 인스턴스에서 등록된 게시물을 더하고 이미 센 게시물은 중복으로 세지 않는다")
+    void catchUpAddsPostsAboveBoundary() {
+        // given
+        PostLocationFacets facets = new PostLocationFacets(postRepository, transactionManager, true, SETTLE_TIME);
+        given(postRepository.findMaxId()).willReturn(10L);
+        given(postRepository.countByLocationUpTo(10L)).willReturn(List.of(new LocationCount("싱가폴", 1L)));
+        given(postRepository.countByLocationBetween(eq(10L), anyLong())).willReturn(List.of(
+                new LocationCount("싱가폴", 1L), new LocationCount("도쿄", 3L)));
+        facets.rebuild();
+        facets.onPostRegistered(new PostRegisteredEvent(11L, "싱가폴", "title", "content"));
+
+        // when
+        facets.catchUp();
+
+        // then
+        assertThat(facets.getCounts()).containsExactly(Map.entry("도쿄", 3L), Map.entry("싱가폴", 2L));
+    }
+
+    @Test
+    @DisplayName("시작 시 재구성이 끝나기 전에는 따라잡기를 하지 않는다")
+    void catchUpWaitsForRebuild() {
+        // given
+        PostLocationFacets facets = new PostLocationFacets(postRepository, transactionManager, true, SETTLE_TIME);
+
+        // when
+        facets.catchUp();
+
+        // then
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("집계 쿼리가 실행되는 동안 등록된 더 큰 id의 게시물은 새 집계에 더해진다")
+    void eventsDuringRebuildAboveBoundaryAreKept() {
+        // given
+        PostLocationFacets facets = new PostLocationFacets(postRepository, transactionManager, true, SETTLE_TIME);
+        given(postRepository.findMaxId()).willReturn(10L);
+        given(postRepository.countByLocationUpTo(10L)).willAnswer(invocation -> {
+            facets.onPostRegistered(new PostRegisteredEvent(9L, "싱가폴", "title", "content"));
+            facets.onPostRegistered(new PostRegisteredEvent(11L, "도쿄", "title", "content"));
+            return List.of(new LocationCount("싱가폴", 1L));
+        });
+
+        // when
+        facets.rebuild();
+
+        // then
+        assertThat(facets.getCounts()).containsExactly(Map.entry("도쿄", 1L), Map.entry("싱가폴", 1L));
+    }
+}
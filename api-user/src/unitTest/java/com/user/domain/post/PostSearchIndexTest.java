@@ -0,0 +1,121 @@
+package com.user.domain.post;
+
+import com.search.index.SearchHit;
+import com.storage.id.TimeOrderedIdSequence;
+import com.storage.projection.PostDocument;
+import com.storage.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchIndexTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        postSearchIndex = new PostSearchIndex(postRepository, false, 2, Duration.ofMinutes(1L));
+    }
+
+    @Test
+    @DisplayName("재색인은 id 순으로 배치를 나누어 모든 게시물을 읽는다")
+    void rebuildReadsAllBatches() {
+        // given
+        given(postRepository.findDocumentsAfter(0L, Limit.of(2))).willReturn(List.of(
+                new PostDocument(1L, "싱가폴", "마리나 베이 야경", "content"),
+                new PostDocument(2L, "싱가폴", "센토사 섬", "content")));
+        given(postRepository.findDocumentsAfter(2L, Limit.of(2))).willReturn(List.of(
+                new PostDocument(3L, "도쿄", "도쿄 야경", "content")));
+
+        // when
+        postSearchIndex.rebuild();
+
+        // then
+        assertThat(postSearchIndex.search("야경", null, null, 10).hits())
+                .extracting(SearchHit::docId)
+                .containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("등록된 게시물은 커밋 후 바로 색인된다")
+    void indexRegisteredPost() {
+        // when
+        postSearchIndex.onPostRegistered(new PostRegisteredEvent(1L, "싱가폴", "마리나 베이 야경", "content"));
+
+        // then
+        assertThat(postSearchIndex.search("야경", "싱가폴", null, 10).hits())
+                .extracting(SearchHit::docId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("재색인 중에 등록된 게시물은 교체되는 새 색인에도 포함된다")
+    void postsRegisteredDuringRebuildAreKept() {
+        // given
+        given(postRepository.findDocumentsAfter(0L, Limit.of(2))).willAnswer(invocation -> {
+            postSearchIndex.onPostRegistered(new PostRegisteredEvent(9L, "싱가폴", "가든스 바이 더 베이 야경", "content"));
+            return List.of(new PostDocument(1L, "싱가폴", "마리나 베이 야경", "content"));
+        });
+
+        // when
+        postSearchIndex.rebuild();
+
+        // then
+        assertThat(postSearchIndex.search("야경", null, null, 10).hits())
+                .extracting(SearchHit::docId)
+                .containsExactlyInAnyOrder(1L, 9L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 등록된 게시물은 주기적인 따라잡기로 색인된다")
+    void catchUpIndexesPostsFromOtherInstances() {
+        // given
+        given(postRepository.findDocumentsAfter(anyLong(), eq(Limit.of(2)))).willReturn(List.of(
+                new PostDocument(1L, "도쿄", "도쿄 야경", "content")));
+
+        // when
+        postSearchIndex.catchUp();
+
+        // then
+        assertThat(postSearchIndex.search("야경", "도쿄", null, 10).hits())
+                .extracting(SearchHit::docId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("마지막으로 색인한 id보다 늦게 커밋된 낮은 id의 게시물은 색인에 없는 id만 다시 읽는다")
+    void catchUpLoadsOnlyMissingLateCommits() {
+        // given
+        long now = TimeOrderedIdSequence.lowestIdAt(Instant.now());
+        postSearchIndex.onPostRegistered(new PostRegisteredEvent(now, "도쿄", "도쿄 야경", "content"));
+        postSearchIndex.onPostRegistered(new PostRegisteredEvent(now + 2, "도쿄", "시부야 야경", "content"));
+        given(postRepository.findIdsBetween(anyLong(), eq(now + 2))).willReturn(List.of(now, now + 1, now + 2));
+        given(postRepository.findDocumentsByIdIn(List.of(now + 1))).willReturn(List.of(
+                new PostDocument(now + 1, "도쿄", "신주쿠 야경", "content")));
+
+        // when
+        postSearchIndex.catchUp();
+
+        // then
+        assertThat(postSearchIndex.search("야경", "도쿄", null, 10).hits())
+                .extracting(SearchHit::docId)
+                .containsExactlyInAnyOrder(now, now + 1, now + 2);
+    }
+}
@@ -0,0 +1,99 @@
+package com.user.domain.post;
+
+import com.storage.projection.PostActivity;
+import com.storage.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class PostTrendingTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PostTrending postTrending;
+
+    @BeforeEach
+    void setUp() {
+        postTrending = new PostTrending(postRepository, transactionManager, Duration.ofHours(1L), 10, 10, 2, false);
+    }
+
+    @Test
+    @DisplayName("오래된 조회수는 반감기에 따라 줄어들어 최근 조회보다 낮게 평가된다")
+    void olderViewsDecay() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        postTrending.recordView(1L, "싱가폴", now.minusHours(2L));
+        postTrending.recordView(1L, "싱가폴", now.minusHours(2L));
+        postTrending.recordView(2L, "도쿄", now);
+
+        // then
+        assertThat(postTrending.getTrending(null, 10)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("장소를 지정하면 해당 장소의 게시물만 반환한다")
+    void trendingByLocation() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        postTrending.recordView(1L, "싱가폴", now);
+        postTrending.recordView(2L, "도쿄", now);
+
+        // when && then
+        assertThat(postTrending.getTrending("싱가폴", 10)).containsExactly(1L);
+        assertThat(postTrending.getTrending("파리", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("순위를 유지하는 장소 수를 넘으면 누적 점수가 가장 낮은 장소를 밀어낸다")
+    void quietestLocationIsEvictedWhenFull() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        postTrending.recordView(1L, "싱가폴", now);
+        postTrending.recordView(1L, "싱가폴", now);
+        postTrending.recordView(2L, "도쿄", now);
+        postTrending.getTrending(null, 10);
+
+        // when
+        postTrending.recordView(3L, "파리", now);
+
+        // then
+        assertThat(postTrending.getTrending("싱가폴", 10)).containsExactly(1L);
+        assertThat(postTrending.getTrending("도쿄", 10)).isEmpty();
+        assertThat(postTrending.getTrending("파리", 10)).containsExactly(3L);
+        assertThat(postTrending.getTrending(null, 10)).containsExactly(1L, 3L, 2L);
+    }
+
+    @Test
+    @DisplayName("최근 게시물의 저장된 조회수로 초기 순위를 만든다")
+    void seedFromStoredViews() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(postRepository.streamActivitiesSince(any(LocalDateTime.class))).willReturn(Stream.of(
+                new PostActivity(1L, "싱가폴", 10, now.minusMinutes(10L)),
+                new PostActivity(2L, "싱가폴", 100, now.minusMinutes(10L))));
+
+        // when
+        postTrending.seed();
+
+        // then
+        assertThat(postTrending.getTrending("싱가폴", 10)).containsExactly(2L, 1L);
+    }
+}
@@ -0,0 +1,79 @@
+package com.user.domain.post;
+
+import com.storage.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCounterTest {
+
+    @InjectMocks
+    private PostViewCounter postViewCounter;
+    @Mock
+    private PostRepository postRepository;
+
+    @Test
+    @DisplayName("조회수는 저장된 값에 아직 반영되지 않은 조회수를 더한 값이다")
+    void getViewsIncludesPendingViews() {
+        // given
+        postViewCounter.increase(1L);
+        postViewCounter.increase(1L);
+
+        // when
+        long views = postViewCounter.getViews(1L, 10);
+
+        // then
+        assertThat(views).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("flush하면 쌓인 조회수를 한 번에 반영한다")
+    void flushWritesPendingViews() {
+        // given
+        postViewCounter.increase(1L);
+        postViewCounter.increase(1L);
+        postViewCounter.increase(2L);
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        then(postRepository).should().increaseViews(Map.of(1L, 2L, 2L, 1L));
+        assertThat(postViewCounter.getViews(1L, 0)).isZero();
+    }
+
+    @Test
+    @DisplayName("쌓인 조회수가 없으면 flush해도 쿼리를 실행하지 않는다")
+    void flushSkipsWhenNothingPending() {
+        // when
+        postViewCounter.flush();
+
+        // then
+        then(postRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("flush에 실패하면 조회수를 잃지 않고 다음 flush에 다시 반영한다")
+    void flushRestoresViewsOnFailure() {
+        // given
+        postViewCounter.increase(1L);
+        given(postRepository.increaseViews(anyMap())).willThrow(new IllegalStateException("db down"));
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(postViewCounter.getViews(1L, 0)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,84 @@
+package com.user.domain.product;
+
+import com.storage.entity.ProductLevel;
+import com.storage.event.ProductChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EntitlementCacheTest {
+
+    private EntitlementCache entitlementCache;
+
+    @BeforeEach
+    void setUp() {
+        entitlementCache = new EntitlementCache(100L, Duration.ofMinutes(10L), Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 로더로 조회하고 이후에는 캐시에서 반환한다")
+    void loadOnMissAndHitAfterwards() {
+        // given
+        Entitlement entitlement = new Entitlement(ProductLevel.PREMIUM, LocalDateTime.now().plusDays(1L));
+
+        // when
+        Entitlement first = entitlementCache.get(1L, userId -> entitlement);
+        Entitlement second = entitlementCache.get(1L, userId -> {
+            throw new IllegalStateException("loader must not be called on hit");
+        });
+
+        // then
+        assertThat(first).isSameAs(entitlement);
+        assertThat(second).isSameAs(entitlement);
+        assertThat(entitlementCache.stats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("상품이 변경되면 해당 유저의 권한을 다시 조회한다")
+    void productChangeEvictsEntitlement() {
+        // given
+        Entitlement basic = new Entitlement(ProductLevel.BASIC, LocalDateTime.now().plusDays(1L));
+        Entitlement premium = new Entitlement(ProductLevel.PREMIUM, LocalDateTime.now().plusDays(1L));
+        entitlementCache.get(1L, userId -> basic);
+
+        // when
+        entitlementCache.onProductChanged(new ProductChangedEvent(1L));
+        Entitlement result = entitlementCache.get(1L, userId -> premium);
+
+        // then
+        assertThat(result).isSameAs(premium);
+    }
+
+    @Test
+    @DisplayName("상품 만료 시각이 지난 권한은 캐시되지 않는다")
+    void expiredEntitlementIsNotCached() {
+        // given
+        Entitlement expired = new Entitlement(ProductLevel.PREMIUM, LocalDateTime.now().minusDays(1L));
+        entitlementCache.get(1L, userId -> expired);
+
+        // when
+        Entitlement result = entitlementCache.get(1L, userId -> Entitlement.NONE);
+
+        // then
+        assertThat(result).isSameAs(Entitlement.NONE);
+    }
+
+    @Test
+    @DisplayName("상품이 없는 유저는 짧은 시간만 캐시되어 구매 직후 다시 조회한다")
+    void missingEntitlementIsCachedBriefly() {
+        // given
+        Entitlement premium = new Entitlement(ProductLevel.PREMIUM, LocalDateTime.now().plusDays(1L));
+        entitlementCache.get(1L, userId -> Entitlement.NONE);
+
+        // when
+        Entitlement result = entitlementCache.get(1L, userId -> premium);
+
+        // then
+        assertThat(result).isSameAs(premium);
+    }
+}
@@ -0,0 +1,121 @@
+package com.user.domain.user;
+
+import com.storage.entity.User;
+import com.storage.event.AccountChangedEvent;
+import com.storage.event.UserChangedEvent;
+import com.user.config.security.UserPrincipal;
+import com.user.support.fixture.entity.AccountFixtureFactory;
+import com.user.support.fixture.entity.UserFixtureFactory;
+import com.user.utils.error.CommonException;
+import com.user.utils.token.TokenClaims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.user.enums.ErrorType.USER_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserPrincipalCacheTest {
+
+    private UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void setUp() {
+        userPrincipalCache = new UserPrincipalCache(100L, Duration.ofMinutes(5L));
+    }
+
+    @Test
+    @DisplayName("캐시에 없으면 로더로 조회하고 이후에는 캐시에서 반환한다")
+    void loadOnMissAndHitAfterwards() {
+        // given
+        UserPrincipal principal = createPrincipal();
+
+        // when
+        UserPrincipal first = userPrincipalCache.get(1L, userId -> principal);
+        UserPrincipal second = userPrincipalCache.get(1L, userId -> {
+            throw new IllegalStateException("loader must not be called on hit");
+        });
+
+        // then
+        assertThat(first).isSameAs(principal);
+        assertThat(second).isSameAs(principal);
+        assertThat(userPrincipalCache.stats().missCount()).isEqualTo(1L);
+        assertThat(userPrincipalCache.stats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("무효화된 유저는 다시 로더로 조회한다")
+    void evictedUserIsLoadedAgain() {
+        // given
+        UserPrincipal oldPrincipal = createPrincipal();
+        UserPrincipal newPrincipal = createPrincipal();
+        userPrincipalCache.get(1L, userId -> oldPrincipal);
+
+        // when
+        userPrincipalCache.evict(1L);
+        UserPrincipal result = userPrincipalCache.get(1L, userId -> newPrincipal);
+
+        // then
+        assertThat(result).isSameAs(newPrincipal);
+    }
+
+    @Test
+    @DisplayName("유저가 변경되면 커밋 후 해당 유저의 캐시가 무효화된다")
+    void userChangeEvictsPrincipal() {
+        // given
+        UserPrincipal oldPrincipal = createPrincipal();
+        UserPrincipal newPrincipal = createPrincipal();
+        userPrincipalCache.get(1L, userId -> oldPrincipal);
+
+        // when
+        userPrincipalCache.onUserChanged(new UserChangedEvent(1L));
+        UserPrincipal result = userPrincipalCache.get(1L, userId -> newPrincipal);
+
+        // then
+        assertThat(result).isSameAs(newPrincipal);
+    }
+
+    @Test
+    @DisplayName("계정이 변경되면 그 계정을 가진 유저의 캐시만 무효화된다")
+    void accountChangeEvictsPrincipalOfAccount() {
+        // given
+        UserPrincipal changed = UserPrincipal.of(new TokenClaims(1L, 10L, "changed", null, null));
+        UserPrincipal untouched = UserPrincipal.of(new TokenClaims(2L, 20L, "untouched", null, null));
+        userPrincipalCache.get(1L, userId -> changed);
+        userPrincipalCache.get(2L, userId -> untouched);
+
+        // when
+        userPrincipalCache.onAccountChanged(new AccountChangedEvent(10L));
+
+        // then
+        assertThat(userPrincipalCache.get(1L, userId -> createPrincipal())).isNotSameAs(changed);
+        assertThat(userPrincipalCache.get(2L, userId -> createPrincipal())).isSameAs(untouched);
+    }
+
+    @Test
+    @DisplayName("로더에서 예외가 발생하면 캐시하지 않는다")
+    void loaderExceptionIsNotCached() {
+        // given
+        UserPrincipal principal = createPrincipal();
+
+        // when
+        assertThatThrownBy(() -> userPrincipalCache.get(1L, userId -> {
+            throw new CommonException(USER_NOT_FOUND);
+        }))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(USER_NOT_FOUND.getMessage());
+        UserPrincipal result = userPrincipalCache.get(1L, userId -> principal);
+
+        // then
+        assertThat(result).isSameAs(principal);
+        assertThat(userPrincipalCache.stats().missCount()).isEqualTo(2L);
+    }
+
+    private UserPrincipal createPrincipal() {
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        return UserPrincipal.of(user);
+    }
+}
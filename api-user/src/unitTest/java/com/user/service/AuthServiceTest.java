@@ -1,43 +1,63 @@
 package com.user.service;
 
 import com.storage.entity.Account;
+import com.storage.entity.RefreshToken;
 import com.storage.entity.User;
 import com.storage.repository.AccountRepository;
+import com.storage.repository.ProductRepository;
+import com.storage.repository.RefreshTokenRepository;
 import com.storage.repository.UserRepository;
 import com.user.config.security.UserPrincipal;
-import com.user.domain.user.UserUpdater;
+import com.user.domain.account.AccountUpdater;
+import com.user.domain.refreshtoken.RefreshTokenUpdater;
+import com.user.domain.user.UserPrincipalCache;
 import com.user.dto.request.LoginRequest;
 import com.user.dto.request.UserRegisterRequest;
 import com.user.dto.response.TokenResponse;
 import com.user.support.fixture.dto.request.LoginRequestFixtureFactory;
 import com.user.support.fixture.dto.request.UserRegisterRequestFixtureFactory;
 import com.user.support.fixture.entity.AccountFixtureFactory;
+import com.user.support.fixture.entity.RefreshTokenFixtureFactory;
 import com.user.support.fixture.entity.UserFixtureFactory;
 import com.user.utils.error.CommonException;
 import com.user.utils.token.JwtTokenProvider;
+import com.user.utils.token.TokenClaims;
+import com.user.utils.token.TokenHash;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Date;
 import java.util.Optional;
 
 import static com.user.enums.ErrorType.DUPLICATED_EMAIL;
 import static com.user.enums.ErrorType.LOGIN_FAIL;
 import static com.user.enums.ErrorType.UNAUTHORIZED_TOKEN;
 import static com.user.enums.ErrorType.USER_NOT_FOUND;
+import static com.user.enums.TokenType.ACCESS;
 import static com.user.enums.TokenType.REFRESH;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -49,11 +69,21 @@ class AuthServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+    @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
-    private UserUpdater userUpdater;
+    private AccountUpdater accountUpdater;
+    @Mock
+    private RefreshTokenUpdater refreshTokenUpdater;
     @Mock
     private JwtTokenProvider jwtTokenProvider;
+    @Spy
+    private UserPrincipalCache userPrincipalCache = new UserPrincipalCache(100L, Duration.ofMinutes(5L));
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     @Test
     @DisplayName("고유한 이메일로 사용자 등록시 사용자와 계정이 생성되어야 한다")
@@ -84,6 +114,21 @@ class AuthServiceTest {
                 .hasMessage(DUPLICATED_EMAIL.getMessage());
     }
 
+    @Test
+    @DisplayName("동시에 같은 이메일로 등록되어 유니크 제약을 위반하면 중복 이메일 예외가 발생해야 한다")
+    void registerUserRacingOnSameEmail() {
+        // given
+        UserRegisterRequest request = UserRegisterRequestFixtureFactory.create();
+        given(accountRepository.findByEmail(request.email())).willReturn(Optional.empty());
+        given(passwordEncoder.encode(request.password())).willReturn("encodedPassword");
+        willThrow(new DataIntegrityViolationException("UK_account_email")).given(accountRepository).save(any(Account.class));
+
+        // when & then
+        assertThatThrownBy(() -> authService.register(request))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(DUPLICATED_EMAIL.getMessage());
+    }
+
     @Test
     @DisplayName("유효한 이메일과 패스워드로 로그인이 성공하면 토큰이 반환된다")
     void successfulLoginReturnsTokenResponse() {
@@ -92,7 +137,8 @@ class AuthServiceTest {
         User user = UserFixtureFactory.create(AccountFixtureFactory.create());
         given(userRepository.findByAccountEmail(loginRequest.email())).willReturn(Optional.of(user));
         given(passwordEncoder.matches(loginRequest.password(), user.getAccount().getPassword())).willReturn(true);
-        given(jwtTokenProvider.generateToken(any(), any(), any())).willReturn("accessToken", "refreshToken");
+        given(jwtTokenProvider.generateToken(eq(ACCESS), any(TokenClaims.class), any(Date.class))).willReturn("accessToken");
+        given(jwtTokenProvider.generateToken(eq(REFRESH), nullable(Long.class), any(Date.class))).willReturn("refreshToken");
 
         // when
         TokenResponse tokens = assertDoesNotThrow(() -> authService.login(loginRequest));
@@ -100,7 +146,52 @@ class AuthServiceTest {
         // then
         assertEquals("accessToken", tokens.accessToken());
         assertEquals("refreshToken", tokens.refreshToken());
-        then(userUpdater).should().updateRefreshToken(user, "refreshToken");
+        then(refreshTokenRepository).should().save(any(RefreshToken.class));
+        then(accountUpdater).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("저장된 패스워드의 해시 비용이 다르면 로그인 시 다시 암호화하여 저장한다")
+    void successfulLoginRehashesPasswordWhenCostDiffers() {
+        // given
+        LoginRequest loginRequest = LoginRequestFixtureFactory.create();
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        given(userRepository.findByAccountEmail(loginRequest.email())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(loginRequest.password(), user.getAccount().getPassword())).willReturn(true);
+        given(passwordEncoder.upgradeEncoding(user.getAccount().getPassword())).willReturn(true);
+        given(passwordEncoder.encode(loginRequest.password())).willReturn("rehashedPassword");
+        given(accountRepository.findById(user.getAccount().getId())).willReturn(Optional.of(user.getAccount()));
+        given(jwtTokenProvider.generateToken(eq(ACCESS), any(TokenClaims.class), any(Date.class))).willReturn("accessToken");
+        given(jwtTokenProvider.generateToken(eq(REFRESH), nullable(Long.class), any(Date.class))).willReturn("refreshToken");
+
+        // when
+        authService.login(loginRequest);
+
+        // then
+        then(accountUpdater).should().updatePassword(user.getAccount(), "rehashedPassword");
+    }
+
+    @Test
+    @DisplayName("재암호화하는 동안 패스워드가 변경되었다면 재암호화한 패스워드를 저장하지 않는다")
+    void rehashIsDroppedWhenPasswordChangedMeanwhile() {
+        // given
+        LoginRequest loginRequest = LoginRequestFixtureFactory.create();
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        Account changed = AccountFixtureFactory.create();
+        changed.setPassword("changedPassword");
+        given(userRepository.findByAccountEmail(loginRequest.email())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(loginRequest.password(), user.getAccount().getPassword())).willReturn(true);
+        given(passwordEncoder.upgradeEncoding(user.getAccount().getPassword())).willReturn(true);
+        given(passwordEncoder.encode(loginRequest.password())).willReturn("rehashedPassword");
+        given(accountRepository.findById(user.getAccount().getId())).willReturn(Optional.of(changed));
+        given(jwtTokenProvider.generateToken(eq(ACCESS), any(TokenClaims.class), any(Date.class))).willReturn("accessToken");
+        given(jwtTokenProvider.generateToken(eq(REFRESH), nullable(Long.class), any(Date.class))).willReturn("refreshToken");
+
+        // when
+        authService.login(loginRequest);
+
+        // then
+        then(accountUpdater).shouldHaveNoInteractions();
     }
 
     @Test
@@ -143,7 +234,57 @@ class AuthServiceTest {
         UserPrincipal userPrincipal = authService.getUserPrincipal(userId);
 
         // then
-        assertThat(userPrincipal.getUser()).isEqualTo(user);
+        assertThat(userPrincipal.getNickname()).isEqualTo(user.getNickname());
+    }
+
+    @Test
+    @DisplayName("같은 유저 아이디로 다시 조회하면 캐시된 유저 프린시펄이 반환된다")
+    void cachedUserPrincipalIsReturnedWithoutQuery() {
+        // given
+        Long userId = 1L;
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        given(userRepository.findByIdWithAccount(userId)).willReturn(Optional.of(user));
+
+        // when
+        UserPrincipal first = authService.getUserPrincipal(userId);
+        UserPrincipal second = authService.getUserPrincipal(userId);
+
+        // then
+        assertThat(second).isSameAs(first);
+        then(userRepository).should(times(1)).findByIdWithAccount(userId);
+    }
+
+    @Test
+    @DisplayName("클레임 모드에서 사용자 클레임이 있으면 조회 없이 유저 프린시펄이 반환된다")
+    void claimsModeReturnsUserPrincipalWithoutQuery() {
+        // given
+        TokenClaims claims = new TokenClaims(1L, 2L, "nickname", null, null);
+        given(jwtTokenProvider.isClaimsMode()).willReturn(true);
+
+        // when
+        UserPrincipal userPrincipal = authService.getUserPrincipal(claims);
+
+        // then
+        assertThat(userPrincipal.getUserId()).isEqualTo(1L);
+        assertThat(userPrincipal.getAccountId()).isEqualTo(2L);
+        assertThat(userPrincipal.getNickname()).isEqualTo("nickname");
+        then(userRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("클레임 모드라도 사용자 클레임이 없으면 유저를 조회한다")
+    void claimsModeWithoutPrincipalClaimsLooksUpUser() {
+        // given
+        Long userId = 1L;
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        given(jwtTokenProvider.isClaimsMode()).willReturn(true);
+        given(userRepository.findByIdWithAccount(userId)).willReturn(Optional.of(user));
+
+        // when
+        UserPrincipal userPrincipal = authService.getUserPrincipal(TokenClaims.of(userId));
+
+        // then
+        assertThat(userPrincipal.getNickname()).isEqualTo(user.getNickname());
     }
 
     @Test
@@ -160,39 +301,77 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("유효한 리프레시 토큰이 주어지면 엑세스토큰을 생성한다")
-    void validRefreshTokenReturnsNewAccessToken() {
+    @DisplayName("유효한 리프레시 토큰이 주어지면 토큰을 재발급하고 기존 리프레시 토큰은 사용 처리한다")
+    void validRefreshTokenReturnsNewTokens() {
         // given
         String refreshToken = "validRefreshToken";
-        Long userId = 1L;
         User user = UserFixtureFactory.create(AccountFixtureFactory.create());
-        String expectedAccessToken = "newAccessToken";
+        RefreshToken storedToken = RefreshTokenFixtureFactory.create(user, refreshToken);
 
-        given(jwtTokenProvider.getUserId(REFRESH, refreshToken)).willReturn(userId);
-        given(userRepository.findByIdAndRefreshToken(userId, refreshToken)).willReturn(Optional.of(user));
-        given(jwtTokenProvider.generateToken(any(), any(), any())).willReturn(expectedAccessToken);
+        given(refreshTokenRepository.findByTokenHashWithUser(TokenHash.sha256Hex(refreshToken))).willReturn(Optional.of(storedToken));
+        given(refreshTokenUpdater.markUsed(eq(storedToken), any(LocalDateTime.class))).willReturn(true);
+        given(jwtTokenProvider.generateToken(eq(ACCESS), any(TokenClaims.class), any(Date.class))).willReturn("newAccessToken");
+        given(jwtTokenProvider.generateToken(eq(REFRESH), nullable(Long.class), any(Date.class))).willReturn("newRefreshToken");
 
         // when
-        String accessToken = authService.reissueAccessToken(refreshToken);
+        TokenResponse tokens = authService.reissueAccessToken(refreshToken);
 
         // then
-        assertThat(accessToken).isEqualTo(expectedAccessToken);
+        assertThat(tokens.accessToken()).isEqualTo("newAccessToken");
+        assertThat(tokens.refreshToken()).isEqualTo("newRefreshToken");
+        then(refreshTokenRepository).should().save(any(RefreshToken.class));
+        then(refreshTokenRepository).should(never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("이미 사용된 리프레시 토큰이 주어지면 같은 계열의 토큰을 모두 폐기하고 예외가 발생한다")
+    void reusedRefreshTokenRevokesFamily() {
+        // given
+        String refreshToken = "reusedRefreshToken";
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        RefreshToken storedToken = RefreshTokenFixtureFactory.create(user, refreshToken);
+
+        given(refreshTokenRepository.findByTokenHashWithUser(TokenHash.sha256Hex(refreshToken))).willReturn(Optional.of(storedToken));
+        given(refreshTokenUpdater.markUsed(eq(storedToken), any(LocalDateTime.class))).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> authService.reissueAccessToken(refreshToken))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(UNAUTHORIZED_TOKEN.getMessage());
+        then(refreshTokenRepository).should().revokeFamily(storedToken.getFamilyId());
+        then(refreshTokenRepository).should(never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 리프레시 토큰이 주어지면 사용 처리하지 않고 예외가 발생한다")
+    void expiredStoredRefreshTokenThrowsCommonException() {
+        // given
+        String refreshToken = "expiredRefreshToken";
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        RefreshToken storedToken = RefreshTokenFixtureFactory.createExpired(user, refreshToken);
+
+        given(refreshTokenRepository.findByTokenHashWithUser(TokenHash.sha256Hex(refreshToken))).willReturn(Optional.of(storedToken));
+
+        // when & then
+        assertThatThrownBy(() -> authService.reissueAccessToken(refreshToken))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(UNAUTHORIZED_TOKEN.getMessage());
+        then(refreshTokenUpdater).shouldHaveNoInteractions();
+        then(refreshTokenRepository).should(never()).revokeFamily(any());
     }
 
     @Test
-    @DisplayName("유효한 리프레시 토큰이더라도 사용자가 가지지 않으면 예외가 발생한다. 예상 상황 이중 로그인 방지")
-    void validRefreshTokenButUserNotfoundThrowsCommonException() {
+    @DisplayName("저장되지 않은 리프레시 토큰이 주어지면 예외가 발생한다. 예상 상황 이중 로그인 방지")
+    void validRefreshTokenButNotStoredThrowsCommonException() {
         // given
         String refreshToken = "validRefreshToken";
-        Long userId = 1L;
 
-        given(jwtTokenProvider.getUserId(REFRESH, refreshToken)).willReturn(userId);
-        given(userRepository.findByIdAndRefreshToken(userId, refreshToken)).willReturn(Optional.empty());
+        given(refreshTokenRepository.findByTokenHashWithUser(TokenHash.sha256Hex(refreshToken))).willReturn(Optional.empty());
 
         // when && then
         assertThatThrownBy(() -> authService.reissueAccessToken(refreshToken))
                 .isInstanceOf(CommonException.class)
-                .hasMessage(USER_NOT_FOUND.getMessage());
+                .hasMessage(UNAUTHORIZED_TOKEN.getMessage());
     }
 
     @Test
@@ -201,7 +380,7 @@ class AuthServiceTest {
         // given
         String refreshToken = "invalidRefreshToken";
 
-        given(jwtTokenProvider.getUserId(REFRESH, refreshToken)).willThrow(new CommonException(UNAUTHORIZED_TOKEN));
+        willThrow(new CommonException(UNAUTHORIZED_TOKEN)).given(jwtTokenProvider).validateToken(REFRESH, refreshToken);
 
         // when && then
         assertThatThrownBy(() -> authService.reissueAccessToken(refreshToken))
@@ -0,0 +1,180 @@
+package com.user.service;
+
+import com.storage.entity.Comment;
+import com.storage.entity.Post;
+import com.storage.entity.User;
+import com.storage.projection.CommentRow;
+import com.storage.repository.CommentRepository;
+import com.storage.repository.PostRepository;
+import com.storage.repository.UserRepository;
+import com.user.domain.comment.CommentCounter;
+import com.user.domain.comment.CommentRegisteredEvent;
+import com.user.dto.request.CommentPageRequest;
+import com.user.dto.request.CommentRegisterRequest;
+import com.user.dto.response.CommentPageResponse;
+import com.user.dto.response.CommentResponse;
+import com.user.support.fixture.entity.AccountFixtureFactory;
+import com.user.support.fixture.entity.UserFixtureFactory;
+import com.user.utils.error.CommonException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.user.enums.ErrorType.COMMENT_NOT_FOUND;
+import static com.user.enums.ErrorType.POST_NOT_FOUND;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class CommentServiceTest {
+
+    private CommentService commentService;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CommentCounter commentCounter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        commentService = new CommentService(commentRepository, postRepository, userRepository, commentCounter, eventPublisher, 3);
+    }
+
+    @Test
+    @DisplayName("댓글이 등록되면 등록 이벤트가 발행된다")
+    void registerComment() {
+        // given
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        Post post = Post.builder().author(user).location("싱가폴").title("title").content("content").build();
+        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+
+        // when
+        commentService.register(1L, 1L, new CommentRegisterRequest(null, "content"));
+
+        // then
+        then(commentRepository).should().save(any(Comment.class));
+        then(eventPublisher).should().publishEvent(any(CommentRegisteredEvent.class));
+    }
+
+    @Test
+    @DisplayName("부모 댓글이 같은 게시물에 없으면 대댓글이 등록되지 않는다")
+    void notRegisterReplyWhenParentNotFound() {
+        // given
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        Post post = Post.builder().author(user).location("싱가폴").title("title").content("content").build();
+        given(postRepository.findById(1L)).willReturn(Optional.of(post));
+        given(commentRepository.findByIdAndPostId(2L, 1L)).willReturn(Optional.empty());
+        CommentRegisterRequest request = new CommentRegisterRequest(2L, "content");
+
+        // when && then
+        assertThatThrownBy(() -> commentService.register(1L, 1L, request))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(COMMENT_NOT_FOUND.getMessage());
+        then(commentRepository).should(never()).save(any(Comment.class));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시물에는 댓글이 등록되지 않는다")
+    void notRegisterCommentWhenPostNotFound() {
+        // given
+        User user = UserFixtureFactory.create(AccountFixtureFactory.create());
+        given(postRepository.findById(1L)).willReturn(Optional.empty());
+        CommentRegisterRequest request = new CommentRegisterRequest(null, "content");
+
+        // when && then
+        assertThatThrownBy(() -> commentService.register(1L, 1L, request))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(POST_NOT_FOUND.getMessage());
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("최상위 댓글 기준으로 페이지를 나누고 다음 페이지가 있으면 커서를 반환한다")
+    void getCommentsWithNextCursor() {
+        // given
+        given(commentRepository.findRootRowsAfter(eq(1L), eq(0L), any(Limit.class)))
+                .willReturn(List.of(row(10L, null), row(12L, null), row(13L, null)));
+        given(commentRepository.findReplyRows(List.of(10L, 12L), 3)).willReturn(List.of(row(11L, 10L)));
+        given(commentCounter.getReplyCount(anyLong(), anyInt())).willReturn(0L);
+        given(commentCounter.getReplyCount(10L, 0)).willReturn(1L);
+
+        // when
+        CommentPageResponse response = commentService.getComments(1L, new CommentPageRequest(null, 2));
+
+        // then
+        assertThat(response.comments()).extracting(CommentResponse::id).containsExactly(10L, 12L);
+        assertThat(response.comments().get(0).replies()).extracting(CommentResponse::id).containsExactly(11L);
+        assertThat(response.comments().get(0).replyCount()).isEqualTo(1L);
+        assertThat(response.nextCursor()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("커서가 주어지면 커서 이후의 최상위 댓글을 조회하고 마지막 페이지면 커서가 없다")
+    void getCommentsAfterCursor() {
+        // given
+        given(commentRepository.findRootRowsAfter(eq(1L), eq(12L), any(Limit.class)))
+                .willReturn(List.of(row(13L, null)));
+        given(commentRepository.findReplyRows(List.of(13L), 3)).willReturn(List.of());
+
+        // when
+        CommentPageResponse response = commentService.getComments(1L, new CommentPageRequest(12L, 2));
+
+        // then
+        assertThat(response.comments()).extracting(CommentResponse::id).containsExactly(13L);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("댓글이 없는 게시물이면 빈 목록을 반환한다")
+    void getCommentsWhenEmpty() {
+        // given
+        given(commentRepository.findRootRowsAfter(eq(1L), eq(0L), any(Limit.class))).willReturn(List.of());
+        given(postRepository.existsById(1L)).willReturn(true);
+
+        // when
+        CommentPageResponse response = commentService.getComments(1L, new CommentPageRequest(null, null));
+
+        // then
+        assertThat(response.comments()).isEmpty();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시물의 댓글을 조회하면 예외가 발생한다")
+    void getCommentsWhenPostNotFound() {
+        // given
+        given(commentRepository.findRootRowsAfter(eq(1L), eq(0L), any(Limit.class))).willReturn(List.of());
+        given(postRepository.existsById(1L)).willReturn(false);
+        CommentPageRequest request = new CommentPageRequest(null, null);
+
+        // when && then
+        assertThatThrownBy(() -> commentService.getComments(1L, request))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(POST_NOT_FOUND.getMessage());
+    }
+
+    private CommentRow row(Long id, Long parentId) {
+        return new CommentRow(id, parentId, 1L, "nickname", "content", 0, LocalDateTime.now());
+    }
+}
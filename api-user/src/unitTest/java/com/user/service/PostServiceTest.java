@@ -1,30 +1,65 @@
 package com.user.service;
 
+import com.search.index.IndexSnapshot;
+import com.search.index.SearchCursor;
+import com.search.index.SearchHit;
+import com.search.index.SearchResult;
 import com.storage.entity.Account;
 import com.storage.entity.Post;
 import com.storage.entity.Product;
 import com.storage.entity.ProductLevel;
 import com.storage.entity.User;
+import com.storage.projection.PostSummary;
 import com.storage.repository.PostRepository;
 import com.storage.repository.ProductRepository;
+import com.storage.repository.UserRepository;
+import com.user.config.security.UserPrincipal;
+import com.user.domain.comment.CommentCounter;
+import com.user.domain.post.PostCursor;
+import com.user.domain.post.PostLocationFacets;
+import com.user.domain.post.PostRegisteredEvent;
+import com.user.domain.post.PostSearchIndex;
+import com.user.domain.post.PostTrending;
+import com.user.domain.post.PostViewCounter;
+import com.user.domain.product.Entitlement;
+import com.user.domain.product.EntitlementCache;
 import com.user.domain.product.ProductValidator;
+import com.user.dto.request.PostFeedRequest;
 import com.user.dto.request.PostRegisterRequest;
+import com.user.dto.request.PostSearchRequest;
+import com.user.dto.request.PostTrendingRequest;
+import com.user.dto.response.LocationCountResponse;
+import com.user.dto.response.PostFeedResponse;
+import com.user.dto.response.PostLocationsResponse;
+import com.user.dto.response.PostResponse;
+import com.user.dto.response.PostSummaryResponse;
+import com.user.dto.response.PostTrendingResponse;
 import com.user.support.fixture.dto.request.PostRegisterRequestFixtureFactory;
 import com.user.support.fixture.entity.AccountFixtureFactory;
 import com.user.support.fixture.entity.ProductFixtureFactory;
 import com.user.support.fixture.entity.UserFixtureFactory;
 import com.user.utils.error.CommonException;
+import com.user.utils.token.TokenClaims;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
+import static com.user.enums.ErrorType.INVALID_CURSOR;
+import static com.user.enums.ErrorType.POST_NOT_FOUND;
+import static com.user.enums.ErrorType.PRODUCT_NOT_FOUND;
 import static com.user.enums.ErrorType.PRODUCT_PREMIUM_REQUIRED;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -39,9 +74,25 @@ class PostServiceTest {
     @Mock
     private ProductValidator productValidator;
     @Mock
+    private EntitlementCache entitlementCache;
+    @Mock
     private PostRepository postRepository;
     @Mock
     private ProductRepository productRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private PostViewCounter postViewCounter;
+    @Mock
+    private PostSearchIndex postSearchIndex;
+    @Mock
+    private PostLocationFacets postLocationFacets;
+    @Mock
+    private PostTrending postTrending;
+    @Mock
+    private CommentCounter commentCounter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("프리미엄 게시글이 아니면 게시글은 바로 등록되어야 한다")
@@ -52,10 +103,11 @@ class PostServiceTest {
         PostRegisterRequest request = PostRegisterRequestFixtureFactory.createWithNeedPremium(false);
 
         // when
-        postService.register(user, request);
+        postService.register(UserPrincipal.of(user), request);
 
         // then
         then(postRepository).should().save(any(Post.class));
+        then(eventPublisher).should().publishEvent(any(PostRegisteredEvent.class));
     }
 
     @Test
@@ -65,12 +117,14 @@ class PostServiceTest {
         Account account = AccountFixtureFactory.create();
         User user = UserFixtureFactory.create(account);
         Product product = ProductFixtureFactory.createWith(user, ProductLevel.PREMIUM);
-        given(productRepository.findByUser(user)).willReturn(Optional.of(product));
-        given(productValidator.isPremiumProduct(eq(product), any(LocalDateTime.class))).willReturn(true);
+        givenEntitlementCacheMiss();
+        given(productRepository.findByUserId(user.getId())).willReturn(Optional.of(product));
+        given(productValidator.isPremiumEntitlement(eq(Entitlement.of(product)), any(LocalDateTime.class)))
+                .willReturn(true);
         PostRegisterRequest request = PostRegisterRequestFixtureFactory.createWithNeedPremium(true);
 
         // when
-        postService.register(user, request);
+        postService.register(UserPrincipal.of(user), request);
 
         // then
         then(postRepository).should().save(any(Post.class));
@@ -82,12 +136,14 @@ class PostServiceTest {
         // given
         Account account = AccountFixtureFactory.create();
         User user = UserFixtureFactory.create(account);
-        given(productRepository.findByUser(user)).willReturn(Optional.empty());
+        givenEntitlementCacheMiss();
+        given(productRepository.findByUserId(user.getId())).willReturn(Optional.empty());
         PostRegisterRequest request = PostRegisterRequestFixtureFactory.createWithNeedPremium(true);
 
         // when && then
-        assertThatThrownBy(() -> postService.register(user, request))
-                .isInstanceOf(CommonException.class);
+        assertThatThrownBy(() -> postService.register(UserPrincipal.of(user), request))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(PRODUCT_NOT_FOUND.getMessage());
     }
 
     @Test
@@ -97,13 +153,217 @@ class PostServiceTest {
         Account account = AccountFixtureFactory.create();
         User user = UserFixtureFactory.create(account);
         Product product = ProductFixtureFactory.createWith(user, ProductLevel.PREMIUM);
-        given(productRepository.findByUser(user)).willReturn(Optional.of(product));
-        given(productValidator.isPremiumProduct(eq(product), any(LocalDateTime.class))).willReturn(false);
+        givenEntitlementCacheMiss();
+        given(productRepository.findByUserId(user.getId())).willReturn(Optional.of(product));
+        given(productValidator.isPremiumEntitlement(eq(Entitlement.of(product)), any(LocalDateTime.class)))
+                .willReturn(false);
         PostRegisterRequest request = PostRegisterRequestFixtureFactory.createWithNeedPremium(true);
 
         // when && then
-        assertThatThrownBy(() -> postService.register(user, request))
+        assertThatThrownBy(() -> postService.register(UserPrincipal.of(user), request))
                 .isInstanceOf(CommonException.class)
                 .hasMessage(PRODUCT_PREMIUM_REQUIRED.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("캐시된 권한이 있으면 상품을 조회하지 않고 프리미엄 게시글을 등록한다")
+    void registerPremiumPostWithCachedEntitlement() {
+        // given
+        Account account = AccountFixtureFactory.create();
+        User user = UserFixtureFactory.create(account);
+        Entitlement entitlement = new Entitlement(ProductLevel.PREMIUM, LocalDateTime.now().plusDays(1));
+        given(entitlementCache.get(any(), any())).willReturn(entitlement);
+        given(productValidator.isPremiumEntitlement(eq(entitlement), any(LocalDateTime.class))).willReturn(true);
+        PostRegisterRequest request = PostRegisterRequestFixtureFactory.createWithNeedPremium(true);
+
+        // when
+        postService.register(UserPrincipal.of(user), request);
+
+        // then
+        then(productRepository).shouldHaveNoInteractions();
+        then(postRepository).should().save(any(Post.class));
+    }
+
+    @Test
+    @DisplayName("토큰에 상품 클레임이 있으면 캐시와 상품을 조회하지 않고 클레임으로 프리미엄을 검증한다")
+    void registerPremiumPostWithProductClaims() {
+        // given
+        LocalDateTime endAt = LocalDateTime.now().plusDays(1);
+        UserPrincipal principal = UserPrincipal.of(new TokenClaims(1L, 2L, "nickname", ProductLevel.PREMIUM, endAt));
+        Entitlement entitlement = new Entitlement(ProductLevel.PREMIUM, endAt);
+        given(productValidator.isPremiumEntitlement(eq(entitlement), any(LocalDateTime.class))).willReturn(true);
+        PostRegisterRequest request = PostRegisterRequestFixtureFactory.createWithNeedPremium(true);
+
+        // when
+        postService.register(principal, request);
+
+        // then
+        then(entitlementCache).shouldHaveNoInteractions();
+        then(productRepository).shouldHaveNoInteractions();
+        then(postRepository).should().save(any(Post.class));
+    }
+
+    @Test
+    @DisplayName("토큰 발급 당시 상품이 없었다면 클레임만으로 상품 없음 예외가 발생한다")
+    void notRegisterPremiumPostWhenClaimsHaveNoProduct() {
+        // given
+        UserPrincipal principal = UserPrincipal.of(new TokenClaims(1L, 2L, "nickname", null, null));
+        PostRegisterRequest request = PostRegisterRequestFixtureFactory.createWithNeedPremium(true);
+
+        // when && then
+        assertThatThrownBy(() -> postService.register(principal, request))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(PRODUCT_NOT_FOUND.getMessage());
+        then(productRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("요청한 개수보다 많은 게시물이 있으면 마지막 게시물의 커서를 함께 반환한다")
+    void getPostsWithNextCursor() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        List<PostSummary> posts = List.of(createSummary(3L, now), createSummary(2L, now), createSummary(1L, now));
+        given(postRepository.findFeed(Limit.of(3))).willReturn(posts);
+
+        // when
+        PostFeedResponse response = postService.getPosts(new PostFeedRequest(null, null, 2));
+
+        // then
+        assertThat(response.posts()).hasSize(2);
+        assertThat(response.nextCursor()).isEqualTo(new PostCursor(now, 2L).encode());
+    }
+
+    @Test
+    @DisplayName("커서와 장소가 주어지면 해당 장소에서 커서 이후의 게시물을 조회하고 마지막 페이지면 커서가 없다")
+    void getPostsAfterCursorByLocation() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        PostCursor cursor = new PostCursor(now, 2L);
+        given(postRepository.findFeedByLocationAfter("싱가폴", now, 2L, Limit.of(3)))
+                .willReturn(List.of(createSummary(1L, now)));
+
+        // when
+        PostFeedResponse response = postService.getPosts(new PostFeedRequest(cursor.encode(), "싱가폴", 2));
+
+        // then
+        assertThat(response.posts()).hasSize(1);
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 예외가 발생한다")
+    void getPostsWithInvalidCursor() {
+        // given
+        PostFeedRequest request = new PostFeedRequest("invalid-cursor", null, null);
+
+        // when && then
+        assertThatThrownBy(() -> postService.getPosts(request))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("게시물을 조회하면 조회수가 증가하고 반영 대기중인 조회수를 포함해 반환한다")
+    void getPostIncreasesViews() {
+        // given
+        Account account = AccountFixtureFactory.create();
+        User user = UserFixtureFactory.create(account);
+        Post post = Post.builder().author(user).location("싱가폴").title("title").content("content").views(10).build();
+        given(postRepository.findByIdWithAuthor(1L)).willReturn(Optional.of(post));
+        given(postViewCounter.getViews(1L, 10)).willReturn(11L);
+        given(commentCounter.getCommentCount(1L, 0)).willReturn(2L);
+
+        // when
+        PostResponse response = postService.getPost(1L);
+
+        // then
+        then(postViewCounter).should().increase(1L);
+        then(postTrending).should().recordView(eq(1L), eq("싱가폴"), any(LocalDateTime.class));
+        assertThat(response.views()).isEqualTo(11L);
+        assertThat(response.commentCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시물을 조회하면 예외가 발생하고 조회수는 증가하지 않는다")
+    void getPostWhenNotFound() {
+        // given
+        given(postRepository.findByIdWithAuthor(1L)).willReturn(Optional.empty());
+
+        // when && then
+        assertThatThrownBy(() -> postService.getPost(1L))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(POST_NOT_FOUND.getMessage());
+        then(postViewCounter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("검색 결과는 색인의 순위대로 게시물 요약을 반환한다")
+    void searchKeepsIndexRanking() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        SearchResult result = new SearchResult(
+                List.of(new SearchHit(2L, 3.0), new SearchHit(1L, 1.0)), new SearchCursor(1.0, 1L, new IndexSnapshot(2L, 2, 10L)));
+        given(postSearchIndex.search("야경", null, null, 2)).willReturn(result);
+        given(postRepository.findSummariesByIdIn(List.of(2L, 1L)))
+                .willReturn(List.of(createSummary(1L, now), createSummary(2L, now)));
+
+        // when
+        PostFeedResponse response = postService.search(new PostSearchRequest("야경", null, null, 2));
+
+        // then
+        assertThat(response.posts()).extracting(PostSummaryResponse::id).containsExactly(2L, 1L);
+        assertThat(response.nextCursor()).isEqualTo(new SearchCursor(1.0, 1L, new IndexSnapshot(2L, 2, 10L)).encode());
+    }
+
+    @Test
+    @DisplayName("잘못된 검색 커서로 조회하면 예외가 발생한다")
+    void searchWithInvalidCursor() {
+        // given
+        PostSearchRequest request = new PostSearchRequest("야경", null, "invalid-cursor!", null);
+
+        // when && then
+        assertThatThrownBy(() -> postService.search(request))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(INVALID_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("장소별 게시물 수를 집계된 순서대로 반환한다")
+    void getLocations() {
+        // given
+        given(postLocationFacets.getCounts()).willReturn(List.of(Map.entry("싱가폴", 2L), Map.entry("도쿄", 1L)));
+
+        // when
+        PostLocationsResponse response = postService.getLocations();
+
+        // then
+        assertThat(response.locations()).extracting(LocationCountResponse::location).containsExactly("싱가폴", "도쿄");
+        assertThat(response.locations()).extracting(LocationCountResponse::count).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("인기 게시물은 순위 순서대로 게시물 요약을 반환한다")
+    void getTrendingKeepsRanking() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        given(postTrending.getTrending("싱가폴", 20)).willReturn(List.of(3L, 1L));
+        given(postRepository.findSummariesByIdIn(List.of(3L, 1L)))
+                .willReturn(List.of(createSummary(1L, now), createSummary(3L, now)));
+
+        // when
+        PostTrendingResponse response = postService.getTrending(new PostTrendingRequest("싱가폴", null));
+
+        // then
+        assertThat(response.posts()).extracting(PostSummaryResponse::id).containsExactly(3L, 1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenEntitlementCacheMiss() {
+        given(entitlementCache.get(any(), any())).willAnswer(invocation ->
+                invocation.getArgument(1, Function.class).apply(invocation.getArgument(0)));
+    }
+
+    private PostSummary createSummary(Long id, LocalDateTime createdAt) {
+        return new PostSummary(id, "싱가폴", "title" + id, 0, 0, false, createdAt, 1L, "nickname");
+    }
+}
@@ -0,0 +1,62 @@
+package com.user.utils.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltaBufferTest {
+
+    @Test
+    @DisplayName("drain은 쌓인 증감분을 반환하고 초기화한다")
+    void drainReturnsAndResetsDeltas() {
+        // given
+        DeltaBuffer buffer = new DeltaBuffer();
+        buffer.add(1L, 1L);
+        buffer.add(1L, 2L);
+        buffer.add(2L, 1L);
+
+        // when
+        Map<Long, Long> drained = buffer.drain();
+
+        // then
+        assertThat(drained).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 3L, 2L, 1L));
+        assertThat(buffer.pending(1L)).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("restore하면 반환했던 증감분이 다시 쌓인다")
+    void restoreAddsDeltasBack() {
+        // given
+        DeltaBuffer buffer = new DeltaBuffer();
+        buffer.add(1L, 3L);
+        Map<Long, Long> drained = buffer.drain();
+        buffer.add(1L, 1L);
+
+        // when
+        buffer.restore(drained);
+
+        // then
+        assertThat(buffer.pending(1L)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("drain한 아이디와 합이 0이 된 아이디는 버퍼에 남지 않는다")
+    void drainedAndZeroedIdsAreRemoved() {
+        // given
+        DeltaBuffer buffer = new DeltaBuffer();
+        buffer.add(1L, 1L);
+        buffer.add(2L, 1L);
+        buffer.add(2L, -1L);
+
+        // when
+        Map<Long, Long> drained = buffer.drain();
+
+        // then
+        assertThat(drained).containsExactlyEntriesOf(Map.of(1L, 1L));
+        assertThat(buffer.size()).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.user.utils.crypto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("목표 지연 시간을 넘지 않는 가장 높은 해시 비용으로 보정된다")
+    void calibrateToHighestStrengthWithinTargetLatency() {
+        // given
+        Duration targetLatency = Duration.ofSeconds(10L);
+
+        // when
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(targetLatency, 4, 5);
+
+        // then
+        assertThat(encoder.getStrength()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("목표 지연 시간을 만족하는 해시 비용이 없으면 최소 해시 비용을 사용한다")
+    void calibrateToMinStrengthWhenTargetIsTooSmall() {
+        // given
+        Duration targetLatency = Duration.ZERO;
+
+        // when
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(targetLatency, 4, 5);
+
+        // then
+        assertThat(encoder.getStrength()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("저장된 해시 비용이 보정된 해시 비용보다 낮을 때만 재암호화가 필요하다")
+    void upgradeEncodingOnlyWhenStoredStrengthIsLower() {
+        // given
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(Duration.ofSeconds(10L), 5, 5);
+        String sameStrength = encoder.encode("password");
+        String lowerStrength = new BCryptPasswordEncoder(4).encode("password");
+        String higherStrength = new BCryptPasswordEncoder(6).encode("password");
+
+        // when & then
+        assertThat(encoder.matches("password", lowerStrength)).isTrue();
+        assertThat(encoder.matches("password", higherStrength)).isTrue();
+        assertThat(encoder.upgradeEncoding(sameStrength)).isFalse();
+        assertThat(encoder.upgradeEncoding(lowerStrength)).isTrue();
+        assertThat(encoder.upgradeEncoding(higherStrength)).isFalse();
+        assertThat(encoder.upgradeEncoding("notBCrypt")).isFalse();
+    }
+}
@@ -0,0 +1,88 @@
+package com.user.utils.crypto;
+
+import com.user.utils.error.CommonException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.user.enums.ErrorType.PASSWORD_ENCODER_BUSY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        boundedPasswordEncoder.close();
+    }
+
+    @Test
+    @DisplayName("암호화와 비교는 위임한 인코더의 결과를 그대로 반환한다")
+    void encodeAndMatchesDelegate() {
+        // given
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1);
+
+        // when
+        String encoded = boundedPasswordEncoder.encode("password");
+
+        // then
+        assertThat(boundedPasswordEncoder.matches("password", encoded)).isTrue();
+        assertThat(boundedPasswordEncoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 PASSWORD_ENCODER_BUSY 에러를 발생시킨다")
+    void rejectWhenQueueIsFull() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        boundedPasswordEncoder = new BoundedPasswordEncoder(new BlockingPasswordEncoder(started, release), 1, 1);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        boundedPasswordEncoder.bindTo(registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("running"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("queued"));
+        while (registry.get("auth.password.encoder.queue.size").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // when & then
+        assertThatThrownBy(() -> boundedPasswordEncoder.encode("rejected"))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(PASSWORD_ENCODER_BUSY.getMessage());
+        assertThat(registry.get("auth.password.encoder.rejected").functionCounter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.join()).isEqualTo("running");
+        assertThat(queued.join()).isEqualTo("queued");
+    }
+
+    private record BlockingPasswordEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
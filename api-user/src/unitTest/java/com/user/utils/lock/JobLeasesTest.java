@@ -0,0 +1,81 @@
+package com.user.utils.lock;
+
+import com.storage.repository.JobLockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class JobLeasesTest {
+
+    private JobLeases jobLeases;
+    @Mock
+    private JobLockRepository jobLockRepository;
+
+    @BeforeEach
+    void setUp() {
+        jobLeases = new JobLeases(jobLockRepository);
+    }
+
+    @Test
+    @DisplayName("만료된 임대를 넘겨받으면 작업을 실행할 수 있다")
+    void acquireExpiredLease() {
+        // given
+        given(jobLockRepository.acquire(eq("job"), anyString(), any(), any())).willReturn(1);
+
+        // when
+        boolean acquired = jobLeases.tryAcquire("job", Duration.ofMinutes(30));
+
+        // then
+        assertThat(acquired).isTrue();
+        then(jobLockRepository).should(never()).create(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대 중이면 작업을 실행할 수 없다")
+    void rejectHeldLease() {
+        // given
+        given(jobLockRepository.acquire(eq("job"), anyString(), any(), any())).willReturn(0);
+        given(jobLockRepository.existsById("job")).willReturn(true);
+
+        // when
+        boolean acquired = jobLeases.tryAcquire("job", Duration.ofMinutes(30));
+
+        // then
+        assertThat(acquired).isFalse();
+        then(jobLockRepository).should(never()).create(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("처음 실행되는 작업이면 임대를 만들고 동시에 만든 인스턴스는 실행하지 않는다")
+    void createLeaseOnFirstRun() {
+        // given
+        given(jobLockRepository.acquire(eq("job"), anyString(), any(), any())).willReturn(0);
+        given(jobLockRepository.existsById("job")).willReturn(false);
+        given(jobLockRepository.create(eq("job"), anyString(), any()))
+                .willReturn(1)
+                .willThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // when
+        boolean first = jobLeases.tryAcquire("job", Duration.ofMinutes(30));
+        boolean second = jobLeases.tryAcquire("job", Duration.ofMinutes(30));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+    }
+}
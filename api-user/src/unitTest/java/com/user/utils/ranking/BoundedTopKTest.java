@@ -0,0 +1,75 @@
+package com.user.utils.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedTopKTest {
+
+    @Test
+    @DisplayName("같은 id의 점수는 누적되고 점수가 높은 순으로 반환된다")
+    void accumulatesScores() {
+        // given
+        BoundedTopK topK = new BoundedTopK(10);
+        topK.add(1L, 1.0);
+        topK.add(2L, 1.5);
+
+        // when
+        topK.add(1L, 1.0);
+
+        // then
+        assertThat(topK.top(10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("가득 차면 새 id가 최솟값을 밀어내고 그 점수를 오차로 물려받는다")
+    void replacesMinimumWhenFull() {
+        // given
+        BoundedTopK topK = new BoundedTopK(2);
+        topK.add(1L, 1.0);
+        topK.add(2L, 2.0);
+
+        // when
+        topK.add(3L, 0.5);
+
+        // then
+        assertThat(topK.size()).isEqualTo(2);
+        assertThat(topK.top(10)).containsExactly(2L, 3L);
+        assertThat(topK.error(3L)).isEqualTo(1.0);
+        assertThat(topK.error(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("작은 가중치로 자주 들어오는 id도 결국 상위에 오른다")
+    void frequentLightIdClimbs() {
+        // given
+        BoundedTopK topK = new BoundedTopK(2);
+        topK.add(1L, 3.0);
+        topK.add(2L, 2.0);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            topK.add(3L, 1.0);
+        }
+
+        // then
+        assertThat(topK.top(1)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("점수를 같은 비율로 줄여도 순서는 유지된다")
+    void scaleKeepsOrder() {
+        // given
+        BoundedTopK topK = new BoundedTopK(10);
+        topK.add(1L, 100.0);
+        topK.add(2L, 200.0);
+
+        // when
+        topK.scale(0.01);
+        topK.add(1L, 1.5);
+
+        // then
+        assertThat(topK.top(1)).containsExactly(1L);
+    }
+}
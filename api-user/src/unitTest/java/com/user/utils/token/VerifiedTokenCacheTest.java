@@ -0,0 +1,112 @@
+package com.user.utils.token;
+
+import com.user.utils.error.CommonException;
+import com.user.utils.token.VerifiedTokenCache.VerifiedToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static com.user.enums.ErrorType.UNAUTHORIZED_TOKEN;
+import static com.user.enums.TokenType.ACCESS;
+import static com.user.enums.TokenType.REFRESH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(100L);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 다시 검증하지 않고 캐시에서 반환한다")
+    void verifiedTokenIsNotVerifiedAgain() {
+        // given
+        VerifiedToken verifiedToken = createVerifiedToken(60_000L);
+
+        // when
+        TokenClaims first = verifiedTokenCache.get(ACCESS, "token", token -> verifiedToken);
+        TokenClaims second = verifiedTokenCache.get(ACCESS, "token", token -> {
+            throw new IllegalStateException("verifier must not be called on hit");
+        });
+
+        // then
+        assertThat(first).isSameAs(verifiedToken.claims());
+        assertThat(second).isSameAs(verifiedToken.claims());
+        assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 토큰을 조회한 뒤에도 먼저 캐시한 토큰은 접두사 뒤의 토큰으로 찾을 수 있다")
+    void cachedKeysSurviveLaterLookups() {
+        // given
+        VerifiedToken first = createVerifiedToken(60_000L);
+        VerifiedToken second = createVerifiedToken(60_000L);
+        verifiedTokenCache.get(ACCESS, "first", token -> first);
+        verifiedTokenCache.get(ACCESS, "second", token -> second);
+
+        // when
+        TokenClaims claims = verifiedTokenCache.get(ACCESS, "Bearer first", "Bearer ".length(), token -> {
+            throw new IllegalStateException("verifier must not be called on hit");
+        });
+
+        // then
+        assertThat(claims).isSameAs(first.claims());
+    }
+
+    @Test
+    @DisplayName("같은 토큰이라도 토큰 타입이 다르면 따로 검증한다")
+    void sameTokenWithDifferentTypeIsVerifiedSeparately() {
+        // given
+        VerifiedToken verifiedToken = createVerifiedToken(60_000L);
+        verifiedTokenCache.get(ACCESS, "token", token -> verifiedToken);
+
+        // when & then
+        assertThatThrownBy(() -> verifiedTokenCache.get(REFRESH, "token", token -> {
+            throw new CommonException(UNAUTHORIZED_TOKEN);
+        }))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(UNAUTHORIZED_TOKEN.getMessage());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않는다")
+    void failedVerificationIsNotCached() {
+        // given
+        VerifiedToken verifiedToken = createVerifiedToken(60_000L);
+        assertThatThrownBy(() -> verifiedTokenCache.get(ACCESS, "token", token -> {
+            throw new CommonException(UNAUTHORIZED_TOKEN);
+        })).isInstanceOf(CommonException.class);
+
+        // when
+        TokenClaims result = verifiedTokenCache.get(ACCESS, "token", token -> verifiedToken);
+
+        // then
+        assertThat(result).isSameAs(verifiedToken.claims());
+        assertThat(verifiedTokenCache.stats().missCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 토큰은 캐시에 남지 않는다")
+    void expiredTokenIsNotKept() {
+        // given
+        VerifiedToken expiredToken = createVerifiedToken(-1_000L);
+        verifiedTokenCache.get(ACCESS, "token", token -> expiredToken);
+
+        // when & then
+        assertThatThrownBy(() -> verifiedTokenCache.get(ACCESS, "token", token -> {
+            throw new CommonException(UNAUTHORIZED_TOKEN);
+        }))
+                .isInstanceOf(CommonException.class)
+                .hasMessage(UNAUTHORIZED_TOKEN.getMessage());
+    }
+
+    private VerifiedToken createVerifiedToken(long expiresInMillis) {
+        return new VerifiedToken(TokenClaims.of(1L), new Date(System.currentTimeMillis() + expiresInMillis));
+    }
+}
@@ -0,0 +1,19 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+val jjwtVersion: String by project
+dependencies {
+    jmh(project(":api-user"))
+    jmh("io.jsonwebtoken:jjwt-api:$jjwtVersion")
+}
+
+jmh {
+    jmhVersion = project.property("jmhVersion") as String
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    profilers = listOf("gc")
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
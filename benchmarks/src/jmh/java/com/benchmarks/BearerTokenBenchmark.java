@@ -0,0 +1,111 @@
+package com.benchmarks;
+
+import com.user.enums.AuthenticationMode;
+import com.user.utils.error.CommonException;
+import com.user.utils.token.JwtTokenProvider;
+import com.user.utils.token.TokenClaims;
+import com.user.utils.token.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static com.user.enums.ErrorType.UNAUTHORIZED_TOKEN;
+import static com.user.enums.TokenType.ACCESS;
+
+/**
+ * Compares the per request cost of authenticating an already verified access token, run with the gc profiler
+ * to read allocations per operation. The legacy variants reproduce the previous path in full: Optional and
+ * substring extraction, a parser built per call without the verified token cache, and a new stack capturing
+ * exception for every rejected token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BearerTokenBenchmark {
+
+    private static final String BEARER = "Bearer ";
+
+    private static final String ACCESS_SECRET = "localTestAccessTokenSecretQWERTYUIOP12345678900";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey accessKey;
+    private String authorization;
+    private String tamperedAuthorization;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(
+                ACCESS_SECRET, Duration.ofMinutes(30L),
+                "localTestRefreshTokenSecretQWERTYUIOP1234567890", Duration.ofDays(7L),
+                AuthenticationMode.LOOKUP, new VerifiedTokenCache(10_000L)
+        );
+        accessKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(ACCESS_SECRET));
+        authorization = BEARER + jwtTokenProvider.generateToken(ACCESS, 1L, new Date());
+        tamperedAuthorization = authorization.substring(0, authorization.length() - 2) + "xx";
+        jwtTokenProvider.getTokenClaimsFromHeader(ACCESS, authorization);
+    }
+
+    @Benchmark
+    public Long legacyOptionalExtraction() {
+        Optional<String> token = authorization.startsWith(BEARER)
+                ? Optional.of(authorization.substring(BEARER.length()))
+                : Optional.empty();
+        return legacyClaims(token.get()).get("userId", Long.class);
+    }
+
+    @Benchmark
+    public TokenClaims headerFastPath() {
+        return jwtTokenProvider.getTokenClaimsFromHeader(ACCESS, authorization);
+    }
+
+    @Benchmark
+    public CommonException legacyRejection() {
+        try {
+            legacyClaims(tamperedAuthorization.substring(BEARER.length()));
+            throw new IllegalStateException("tampered token was accepted");
+        } catch (CommonException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public CommonException stacklessRejection() {
+        try {
+            jwtTokenProvider.getTokenClaimsFromHeader(ACCESS, tamperedAuthorization);
+            throw new IllegalStateException("tampered token was accepted");
+        } catch (CommonException e) {
+            return e;
+        }
+    }
+
+    private Claims legacyClaims(String token) {
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(accessKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            if (!ACCESS.name().equals(claims.getSubject())) {
+                throw new CommonException(UNAUTHORIZED_TOKEN);
+            }
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new CommonException(UNAUTHORIZED_TOKEN);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.benchmarks;
+
+import com.user.enums.AuthenticationMode;
+import com.user.enums.TokenType;
+import com.user.utils.token.JwtTokenProvider;
+import com.user.utils.token.TokenClaims;
+import com.user.utils.token.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static com.user.enums.TokenType.ACCESS;
+
+/**
+ * {@code getUserId} is measured both on a cache hit and with the cache bypassed, which is the full signature check.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtTokenProvider uncachedJwtTokenProvider;
+    private String token;
+    private Date now;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = createProvider(new VerifiedTokenCache(10_000L));
+        uncachedJwtTokenProvider = createProvider(new BypassedTokenCache());
+        now = new Date();
+        token = jwtTokenProvider.generateToken(ACCESS, 1L, now);
+        jwtTokenProvider.getUserId(ACCESS, token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(ACCESS, 1L, now);
+    }
+
+    @Benchmark
+    public Long getUserIdCached() {
+        return jwtTokenProvider.getUserId(ACCESS, token);
+    }
+
+    @Benchmark
+    public Long getUserIdVerified() {
+        return uncachedJwtTokenProvider.getUserId(ACCESS, token);
+    }
+
+    private JwtTokenProvider createProvider(VerifiedTokenCache verifiedTokenCache) {
+        return new JwtTokenProvider(
+                "localTestAccessTokenSecretQWERTYUIOP12345678900", Duration.ofMinutes(30L),
+                "localTestRefreshTokenSecretQWERTYUIOP1234567890", Duration.ofDays(7L),
+                AuthenticationMode.LOOKUP, verifiedTokenCache
+        );
+    }
+
+    /**
+     * A zero sized Caffeine cache still admits entries and evicts them asynchronously, so some lookups would hit.
+     * Every lookup here goes straight to the verifier instead.
+     */
+    private static class BypassedTokenCache extends VerifiedTokenCache {
+
+        private BypassedTokenCache() {
+            super(0L);
+        }
+
+        @Override
+        public TokenClaims get(TokenType tokenType, String source, int offset, Function<String, VerifiedToken> verifier) {
+            return verifier.apply(source.substring(offset)).claims();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.benchmarks;
+
+import com.storage.entity.Account;
+import com.storage.entity.Post;
+import com.storage.entity.User;
+import com.user.domain.post.PostCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostCreatorBenchmark {
+
+    private User user;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        Account account = Account.builder()
+                .email("benchmark@email.com")
+                .password("encodedPassword")
+                .build();
+        user = User.builder()
+                .account(account)
+                .nickname("nickname")
+                .profileImageUrl("")
+                .bio("")
+                .build();
+        content = "travel story ".repeat(200);
+    }
+
+    @Benchmark
+    public Post create() {
+        return PostCreator.create(user, "Seoul", "title", content, false);
+    }
+}
@@ -0,0 +1,45 @@
+package com.benchmarks;
+
+import com.storage.entity.Product;
+import com.storage.entity.ProductLevel;
+import com.user.domain.product.ProductValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProductValidatorBenchmark {
+
+    @Param({"BASIC", "PREMIUM"})
+    private ProductLevel level;
+
+    private ProductValidator productValidator;
+    private Product product;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        productValidator = new ProductValidator();
+        now = LocalDateTime.now();
+        product = Product.builder()
+                .level(level)
+                .startAt(now.minusDays(1L))
+                .endAt(now.plusDays(30L))
+                .build();
+    }
+
+    @Benchmark
+    public boolean isPremiumProduct() {
+        return productValidator.isPremiumProduct(product, now);
+    }
+}
@@ -0,0 +1,53 @@
+package com.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.user.dto.response.ErrorMessage;
+import com.user.dto.response.TokenResponse;
+import com.user.enums.ErrorType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private TokenResponse tokenResponse;
+    private ErrorMessage errorMessage;
+    private ErrorMessage validationErrorMessage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        tokenResponse = TokenResponse.of("a".repeat(180), "b".repeat(180));
+        errorMessage = new ErrorMessage(ErrorType.UNAUTHORIZED_TOKEN);
+        validationErrorMessage = new ErrorMessage(ErrorType.INVALID_REQUEST,
+                Map.of("email", "must be a well-formed email address", "password", "size must be between 8 and 20"));
+    }
+
+    @Benchmark
+    public byte[] tokenResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tokenResponse);
+    }
+
+    @Benchmark
+    public byte[] errorMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorMessage);
+    }
+
+    @Benchmark
+    public byte[] validationErrorMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(validationErrorMessage);
+    }
+}
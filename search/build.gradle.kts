@@ -0,0 +1,3 @@
+dependencies {
+
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.search.index;
+
+/**
+ * Corpus a search pages over: the documents up to {@code maxDocId}, scored with the document count and total
+ * length the first page saw. Documents indexed after the first page then neither shift the BM25 scores nor show
+ * up between pages, which would repeat or skip hits around the cursor.
+ */
+public record IndexSnapshot(long maxDocId, int documentCount, long totalLength) {
+
+    double averageLength() {
+        return Math.max((double) totalLength / documentCount, 1.0);
+    }
+}
@@ -0,0 +1,172 @@
+package com.search.index;
+
+import com.search.tokenizer.Tokenizer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Term to {@link PostingList} index ranked with Okapi BM25. Adding a document that is already indexed is a no-op,
+ * so a startup rebuild and live updates can overlap. A search with a cursor is ranked over the cursor's
+ * {@link IndexSnapshot}; the snapshot only holds ids and counts, so it stays valid across a rebuild and on
+ * other instances indexing the same posts.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Tokenizer tokenizer;
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+    private long maxDocId = -1L;
+
+    public InvertedIndex(Tokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    public void add(long docId, String location, String... fields) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String field : fields) {
+            for (String token : tokenizer.tokenize(field)) {
+                frequencies.merge(token, 1, Integer::sum);
+                length++;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (documents.putIfAbsent(docId, new Document(location, length)) != null) {
+                return;
+            }
+            totalLength += length;
+            maxDocId = Math.max(maxDocId, docId);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, key -> new PostingList()).add(docId, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SearchResult search(SearchQuery query) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenizer.tokenize(query.text())));
+        if (terms.isEmpty() || query.size() <= 0) {
+            return new SearchResult(List.of(), null);
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        IndexSnapshot snapshot;
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return new SearchResult(List.of(), null);
+            }
+            snapshot = query.after() == null
+                    ? new IndexSnapshot(maxDocId, documents.size(), totalLength)
+                    : query.after().snapshot();
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList != null) {
+                    accumulate(postingList, query.location(), snapshot, scores);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return topHits(scores, query, snapshot);
+    }
+
+    public boolean contains(long docId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(docId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A document indexed late with an id below the snapshot's highest id is still scored, with the snapshot's
+     * statistics, so it can appear on a later page but never moves the hits around the cursor.
+     */
+    private void accumulate(PostingList postingList, String location, IndexSnapshot snapshot,
+                            Map<Long, Double> scores) {
+        int documentFrequency = postingList.documentCountUpTo(snapshot.maxDocId());
+        if (documentFrequency == 0) {
+            return;
+        }
+        int documentCount = Math.max(snapshot.documentCount(), documentFrequency);
+        double idf = Math.log(1.0 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        double averageLength = snapshot.averageLength();
+        PostingList.Cursor cursor = postingList.cursor();
+        while (cursor.next() && cursor.docId() <= snapshot.maxDocId()) {
+            Document document = documents.get(cursor.docId());
+            if (location != null && !Objects.equals(location, document.location())) {
+                continue;
+            }
+            int frequency = cursor.frequency();
+            double norm = K1 * (1 - B + B * document.length() / averageLength);
+            scores.merge(cursor.docId(), idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+        }
+    }
+
+    /**
+     * Keeps the best {@code size + 1} hits after the cursor in a min-heap, the extra hit only tells
+     * whether another page exists.
+     */
+    private SearchResult topHits(Map<Long, Double> scores, SearchQuery query, IndexSnapshot snapshot) {
+        int limit = query.size() + 1;
+        PriorityQueue<SearchHit> heap = new PriorityQueue<>(limit, SearchHit.RANKING.reversed());
+        scores.forEach((docId, score) -> {
+            SearchHit hit = new SearchHit(docId, score);
+            if (query.after() != null && !query.after().isBefore(hit)) {
+                return;
+            }
+            if (heap.size() < limit) {
+                heap.add(hit);
+            } else if (SearchHit.RANKING.compare(hit, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(hit);
+            }
+        });
+
+        List<SearchHit> hits = new ArrayList<>(heap);
+        hits.sort(SearchHit.RANKING);
+        if (hits.size() <= query.size()) {
+            return new SearchResult(hits, null);
+        }
+        List<SearchHit> page = hits.subList(0, query.size());
+        return new SearchResult(List.copyOf(page), SearchCursor.of(page.get(page.size() - 1), snapshot));
+    }
+
+    private record Document(String location, int length) {
+    }
+}
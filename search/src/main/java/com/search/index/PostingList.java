@@ -0,0 +1,141 @@
+package com.search.index;
+
+import java.util.Arrays;
+
+/**
+ * Doc ids in ascending order with their term frequencies, stored as varint-encoded
+ * {@code (docId delta, frequency)} pairs. Time-ordered ids mostly arrive in ascending order and are appended,
+ * an out-of-order id re-encodes the list.
+ */
+final class PostingList {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] data = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int documentCount;
+    private long lastDocId = -1L;
+
+    int documentCount() {
+        return documentCount;
+    }
+
+    /**
+     * Number of documents with an id up to {@code maxDocId}, only walks the list if it holds a higher id.
+     */
+    int documentCountUpTo(long maxDocId) {
+        if (lastDocId <= maxDocId) {
+            return documentCount;
+        }
+        int count = 0;
+        Cursor cursor = cursor();
+        while (cursor.next() && cursor.docId() <= maxDocId) {
+            count++;
+        }
+        return count;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    void add(long docId, int frequency) {
+        if (docId > lastDocId) {
+            append(docId, frequency);
+            return;
+        }
+        insert(docId, frequency);
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void append(long docId, int frequency) {
+        writeVarLong(lastDocId < 0 ? docId : docId - lastDocId);
+        writeVarLong(frequency);
+        lastDocId = docId;
+        documentCount++;
+    }
+
+    private void insert(long docId, int frequency) {
+        long[] docIds = new long[documentCount + 1];
+        int[] frequencies = new int[documentCount + 1];
+        int count = 0;
+        boolean inserted = false;
+        Cursor cursor = cursor();
+        while (cursor.next()) {
+            if (!inserted && docId <= cursor.docId()) {
+                if (docId == cursor.docId()) {
+                    return;
+                }
+                docIds[count] = docId;
+                frequencies[count++] = frequency;
+                inserted = true;
+            }
+            docIds[count] = cursor.docId();
+            frequencies[count++] = cursor.frequency();
+        }
+
+        length = 0;
+        documentCount = 0;
+        lastDocId = -1L;
+        for (int i = 0; i < count; i++) {
+            append(docIds[i], frequencies[i]);
+        }
+    }
+
+    private void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    final class Cursor {
+
+        private int position;
+        private long docId = -1L;
+        private int frequency;
+        private boolean started;
+
+        boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            long delta = readVarLong();
+            docId = started ? docId + delta : delta;
+            frequency = (int) readVarLong();
+            started = true;
+            return true;
+        }
+
+        long docId() {
+            return docId;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private long readVarLong() {
+            long value = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.search.index;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Position after the last returned hit, results continue with lower scores or, on a tie, lower doc ids. The
+ * cursor carries the {@link IndexSnapshot} of the first page, so every page is ranked over the same corpus.
+ */
+public record SearchCursor(double score, long docId, IndexSnapshot snapshot) {
+
+    private static final int ENCODED_BYTES = Double.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public static SearchCursor of(SearchHit hit, IndexSnapshot snapshot) {
+        return new SearchCursor(hit.score(), hit.docId(), snapshot);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+     */
+    public static SearchCursor decode(String value) {
+        byte[] bytes = Base64.getUrlDecoder().decode(value);
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("Invalid search cursor: " + value);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        double score = buffer.getDouble();
+        long docId = buffer.getLong();
+        IndexSnapshot snapshot = new IndexSnapshot(buffer.getLong(), buffer.getInt(), buffer.getLong());
+        if (snapshot.documentCount() <= 0) {
+            throw new IllegalArgumentException("Invalid search cursor: " + value);
+        }
+        return new SearchCursor(score, docId, snapshot);
+    }
+
+    public String encode() {
+        byte[] bytes = ByteBuffer.allocate(ENCODED_BYTES)
+                .putDouble(score)
+                .putLong(docId)
+                .putLong(snapshot.maxDocId())
+                .putInt(snapshot.documentCount())
+                .putLong(snapshot.totalLength())
+                .array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    boolean isBefore(SearchHit hit) {
+        return hit.score() < score || (hit.score() == score && hit.docId() < docId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.search.index;
+
+import java.util.Comparator;
+
+public record SearchHit(long docId, double score) {
+
+    static final Comparator<SearchHit> RANKING = Comparator.comparingDouble(SearchHit::score)
+            .thenComparingLong(SearchHit::docId)
+            .reversed();
+}
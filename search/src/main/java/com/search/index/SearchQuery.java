@@ -0,0 +1,4 @@
+package com.search.index;
+
+public record SearchQuery(String text, String location, SearchCursor after, int size) {
+}
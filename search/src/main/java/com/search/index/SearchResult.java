@@ -0,0 +1,6 @@
+package com.search.index;
+
+import java.util.List;
+
+public record SearchResult(List<SearchHit> hits, SearchCursor next) {
+}
@@ -0,0 +1,60 @@
+package com.search.tokenizer;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Korean has no reliable word boundaries without a morphological analyzer, so runs of Hangul (and other CJK)
+ * characters are split into overlapping bigrams, while other letters and digits are kept as whole lowercased words.
+ * A run of a single CJK character is emitted as is.
+ */
+public class NGramTokenizer implements Tokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    @Override
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        int runStart = -1;
+        boolean runIsCjk = false;
+        for (int i = 0; i <= normalized.length(); i++) {
+            char c = i < normalized.length() ? normalized.charAt(i) : ' ';
+            boolean wordChar = Character.isLetterOrDigit(c);
+            boolean cjk = wordChar && isCjk(c);
+            if (runStart >= 0 && (!wordChar || cjk != runIsCjk)) {
+                emit(normalized, runStart, i, runIsCjk, tokens);
+                runStart = -1;
+            }
+            if (wordChar && runStart < 0) {
+                runStart = i;
+                runIsCjk = cjk;
+            }
+        }
+        return tokens;
+    }
+
+    private void emit(String text, int start, int end, boolean cjk, List<String> tokens) {
+        if (!cjk || end - start <= GRAM_SIZE) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + GRAM_SIZE <= end; i++) {
+            tokens.add(text.substring(i, i + GRAM_SIZE));
+        }
+    }
+
+    private boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,8 @@
+package com.search.tokenizer;
+
+import java.util.List;
+
+public interface Tokenizer {
+
+    List<String> tokenize(String text);
+}
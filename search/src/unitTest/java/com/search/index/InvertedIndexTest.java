@@ -0,0 +1,99 @@
+package com.search.index;
+
+import com.search.tokenizer.NGramTokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex(new NGramTokenizer());
+        index.add(1L, "싱가폴", "마리나 베이 샌즈 야경", "야경이 멋있는 싱가폴 여행");
+        index.add(2L, "싱가폴", "센토사 섬", "케이블카 타고 섬 여행");
+        index.add(3L, "도쿄", "도쿄 야경", "도쿄 타워 야경 야경 야경");
+    }
+
+    @Test
+    @DisplayName("검색어가 더 많이 나오는 문서가 먼저 반환된다")
+    void rankedByBm25() {
+        // when
+        SearchResult result = index.search(new SearchQuery("야경", null, null, 10));
+
+        // then
+        assertThat(result.hits()).extracting(SearchHit::docId).containsExactly(3L, 1L);
+        assertThat(result.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("장소로 결과를 거를 수 있다")
+    void filterByLocation() {
+        // when
+        SearchResult result = index.search(new SearchQuery("야경", "싱가폴", null, 10));
+
+        // then
+        assertThat(result.hits()).extracting(SearchHit::docId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 이어서 조회한다")
+    void continueWithCursor() {
+        // given
+        SearchResult first = index.search(new SearchQuery("여행 야경", null, null, 2));
+
+        // when
+        SearchResult second = index.search(new SearchQuery("여행 야경", null, first.next(), 2));
+
+        // then
+        assertThat(first.hits()).hasSize(2);
+        assertThat(first.next()).isNotNull();
+        assertThat(second.hits()).hasSize(1);
+        assertThat(second.next()).isNull();
+        assertThat(first.hits()).extracting(SearchHit::docId)
+                .doesNotContainAnyElementsOf(second.hits().stream().map(SearchHit::docId).toList());
+    }
+
+    @Test
+    @DisplayName("첫 페이지 이후에 색인된 문서는 다음 페이지의 점수와 결과를 바꾸지 않는다")
+    void laterPagesIgnoreDocumentsIndexedAfterFirstPage() {
+        // given
+        SearchResult all = index.search(new SearchQuery("야경", null, null, 10));
+        SearchResult first = index.search(new SearchQuery("야경", null, null, 1));
+        index.add(4L, "도쿄", "야경", "야경 야경 야경 야경");
+
+        // when
+        SearchResult second = index.search(new SearchQuery("야경", null, first.next(), 1));
+
+        // then
+        assertThat(first.hits()).extracting(SearchHit::docId).containsExactly(3L);
+        assertThat(second.hits()).containsExactly(all.hits().get(1));
+        assertThat(second.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 색인된 문서를 다시 추가해도 결과가 바뀌지 않는다")
+    void addIsIdempotent() {
+        // when
+        index.add(1L, "싱가폴", "야경 야경 야경 야경");
+
+        // then
+        assertThat(index.documentCount()).isEqualTo(3);
+        assertThat(index.search(new SearchQuery("야경", null, null, 10)).hits())
+                .extracting(SearchHit::docId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("커서는 인코딩 후 디코딩해도 같은 위치를 가리킨다")
+    void cursorRoundTrip() {
+        // given
+        SearchCursor cursor = new SearchCursor(1.2345, 42L, new IndexSnapshot(57L, 3, 120L));
+
+        // when && then
+        assertThat(SearchCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+}
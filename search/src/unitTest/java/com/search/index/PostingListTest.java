@@ -0,0 +1,71 @@
+package com.search.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+
+    @Test
+    @DisplayName("순서와 상관없이 추가해도 문서 id 오름차순으로 읽힌다")
+    void readsInAscendingOrder() {
+        // given
+        PostingList postingList = new PostingList();
+        postingList.add(10L, 1);
+        postingList.add(Long.MAX_VALUE >> 1, 3);
+        postingList.add(5L, 2);
+
+        // when
+        List<long[]> entries = readAll(postingList);
+
+        // then
+        assertThat(entries).extracting(entry -> entry[0]).containsExactly(5L, 10L, Long.MAX_VALUE >> 1);
+        assertThat(entries).extracting(entry -> entry[1]).containsExactly(2L, 1L, 3L);
+        assertThat(postingList.documentCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("이미 있는 문서는 다시 추가되지 않는다")
+    void duplicateIsIgnored() {
+        // given
+        PostingList postingList = new PostingList();
+        postingList.add(1L, 1);
+        postingList.add(2L, 1);
+
+        // when
+        postingList.add(1L, 5);
+
+        // then
+        assertThat(postingList.documentCount()).isEqualTo(2);
+        assertThat(readAll(postingList)).extracting(entry -> entry[1]).containsExactly(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("가까운 문서 id는 차이값만 저장되어 작게 인코딩된다")
+    void deltasAreCompact() {
+        // given
+        PostingList postingList = new PostingList();
+        long base = 1L << 50;
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            postingList.add(base + i, 1);
+        }
+
+        // then
+        assertThat(postingList.sizeInBytes()).isLessThan(8 + 2 * 100 + 1);
+    }
+
+    private List<long[]> readAll(PostingList postingList) {
+        List<long[]> entries = new ArrayList<>();
+        PostingList.Cursor cursor = postingList.cursor();
+        while (cursor.next()) {
+            entries.add(new long[]{cursor.docId(), cursor.frequency()});
+        }
+        return entries;
+    }
+}
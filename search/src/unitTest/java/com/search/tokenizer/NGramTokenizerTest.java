@@ -0,0 +1,44 @@
+package com.search.tokenizer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    private final NGramTokenizer tokenizer = new NGramTokenizer();
+
+    @Test
+    @DisplayName("한글은 2-gram으로 나눈다")
+    void koreanIsSplitIntoBigrams() {
+        assertThat(tokenizer.tokenize("싱가폴여행"))
+                .containsExactly("싱가", "가폴", "폴여", "여행");
+    }
+
+    @Test
+    @DisplayName("한 글자 한글 단어는 그대로 토큰이 된다")
+    void singleKoreanCharacterIsKept() {
+        assertThat(tokenizer.tokenize("섬 여행")).containsExactly("섬", "여행");
+    }
+
+    @Test
+    @DisplayName("영문과 숫자는 소문자 단어 단위로 나누고 문장부호는 버린다")
+    void latinWordsAreLowercased() {
+        assertThat(tokenizer.tokenize("Marina Bay, 2024!"))
+                .containsExactly("marina", "bay", "2024");
+    }
+
+    @Test
+    @DisplayName("한글과 영문이 붙어 있으면 문자 종류가 바뀌는 곳에서 나눈다")
+    void mixedScriptsAreSplit() {
+        assertThat(tokenizer.tokenize("MBS호텔")).containsExactly("mbs", "호텔");
+    }
+
+    @Test
+    @DisplayName("null이나 빈 문자열은 토큰이 없다")
+    void emptyText() {
+        assertThat(tokenizer.tokenize(null)).isEmpty();
+        assertThat(tokenizer.tokenize("  ")).isEmpty();
+    }
+}
@@ -1,5 +1,10 @@
 dependencies {
     api("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("io.micrometer:micrometer-core")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:jcache")
+    implementation("org.flywaydb:flyway-core")
+    runtimeOnly("org.flywaydb:flyway-mysql")
     runtimeOnly("com.h2database:h2")
     runtimeOnly("com.mysql:mysql-connector-j")
 }
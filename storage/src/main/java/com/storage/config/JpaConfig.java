@@ -1,15 +1,60 @@
 package com.storage.config;
 
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+import javax.cache.CacheManager;
+
 @Configuration
 @EnableTransactionManagement
 @EnableJpaAuditing
 @EntityScan(basePackages = "com.storage.entity")
 @EnableJpaRepositories(basePackages = "com.storage.repository")
 public class JpaConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "storage.second-level-cache")
+    public SecondLevelCacheProperties secondLevelCacheProperties() {
+        return new SecondLevelCacheProperties();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(SecondLevelCacheProperties secondLevelCacheProperties) {
+        return SecondLevelCacheRegions.createCacheManager(secondLevelCacheProperties.getRegions());
+    }
+
+    /**
+     * Only entities looked up by id are cached, the query cache stays off: nothing invalidates a region across
+     * instances, so each region is bounded by its expire-after-write in db-config.yml, which is the staleness
+     * it accepts. Statistics are generated for the cache metrics, they are counted with striped counters and
+     * cost far less than the queries the cache saves.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory,
+                                                           SecondLevelCacheProperties secondLevelCacheProperties) {
+        return new SecondLevelCacheMetrics(entityManagerFactory.unwrap(SessionFactory.class).getStatistics(),
+                secondLevelCacheProperties.getRegions().keySet());
+    }
 }
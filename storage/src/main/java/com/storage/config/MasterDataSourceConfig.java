@@ -3,6 +3,7 @@ package com.storage.config;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -16,7 +17,11 @@ public class MasterDataSourceConfig {
         return new HikariConfig();
     }
 
+    /**
+     * Migrations always run against the master, bypassing routing and statement timing.
+     */
     @Bean
+    @FlywayDataSource
     public HikariDataSource masterDataSource(@Qualifier("masterHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
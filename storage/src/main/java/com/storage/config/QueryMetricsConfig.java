@@ -0,0 +1,26 @@
+package com.storage.config;
+
+import com.storage.metrics.QueryMetrics;
+import com.storage.metrics.RepositoryMethodTagger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class QueryMetricsConfig {
+
+    @Bean
+    public QueryMetrics queryMetrics(@Value("${storage.query-metrics.slow-threshold:200ms}") Duration slowThreshold) {
+        return new QueryMetrics(slowThreshold);
+    }
+
+    /**
+     * Static so the post processor is registered before the repository factory beans it customizes.
+     */
+    @Bean
+    public static RepositoryMethodTagger repositoryMethodTagger() {
+        return new RepositoryMethodTagger();
+    }
+}
@@ -0,0 +1,15 @@
+package com.storage.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+public class ReplicaDataSourceProperties {
+
+    private List<HikariConfig> replica = new ArrayList<>();
+}
@@ -0,0 +1,133 @@
+package com.storage.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the healthy replicas in round-robin order and everything else to master.
+ * It must sit behind a {@code LazyConnectionDataSourceProxy}, so the connection is fetched only after the
+ * transaction has published its read-only flag.
+ */
+@Slf4j
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String MASTER = "master";
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final List<Replica> replicas;
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicationRoutingDataSource(DataSource master, List<Replica> replicas, Duration healthCheckInterval) {
+        this.replicas = List.copyOf(replicas);
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(MASTER, master);
+        for (Replica replica : this.replicas) {
+            targets.put(replica.name(), replica.target());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(master);
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!this.replicas.isEmpty()) {
+            long intervalMillis = healthCheckInterval.toMillis();
+            healthChecker.scheduleWithFixedDelay(this::checkHealth, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return MASTER;
+        }
+        int start = Math.floorMod(sequence.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.isHealthy()) {
+                return replica.name();
+            }
+        }
+        return MASTER;
+    }
+
+    @Override
+    public void destroy() {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            replica.pool().close();
+        }
+    }
+
+    private void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy = isValid(replica.pool());
+            if (replica.isHealthy() != healthy) {
+                log.warn("Replica {} is now {}", replica.name(), healthy ? "healthy" : "unhealthy");
+            }
+            replica.setHealthy(healthy);
+        }
+    }
+
+    private boolean isValid(HikariDataSource pool) {
+        try (Connection connection = pool.getConnection()) {
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * {@code target} is what queries use, it may wrap {@code pool} which is kept for health checks.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource pool;
+        private final DataSource target;
+        private volatile boolean healthy = true;
+
+        public Replica(String name, HikariDataSource pool, DataSource target) {
+            this.name = name;
+            this.pool = pool;
+            this.target = target;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public HikariDataSource pool() {
+            return pool;
+        }
+
+        public DataSource target() {
+            return target;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        void setHealthy(boolean healthy) {
+            this.healthy = healthy;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.storage.config;
+
+import com.storage.metrics.QueryMetrics;
+import com.storage.metrics.StatementTimingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class RoutingDataSourceConfig {
+
+    private static final String REPLICA_POOL_NAME = "replica-";
+
+    @Bean
+    @ConfigurationProperties(prefix = "storage.datasource")
+    public ReplicaDataSourceProperties replicaDataSourceProperties() {
+        return new ReplicaDataSourceProperties();
+    }
+
+    @Bean
+    public ReplicationRoutingDataSource routingDataSource(@Qualifier("masterDataSource") HikariDataSource masterDataSource,
+                                                          ReplicaDataSourceProperties replicaDataSourceProperties,
+                                                          Environment environment,
+                                                          @Value("${storage.datasource.connection-limit.acquire-timeout:3s}") Duration acquireTimeout,
+                                                          @Value("${storage.datasource.replica-health-check-interval:5s}") Duration healthCheckInterval) {
+        boolean limitConnections = Threading.VIRTUAL.isActive(environment);
+        List<ReplicationRoutingDataSource.Replica> replicas = new ArrayList<>();
+        List<HikariConfig> replicaConfigs = replicaDataSourceProperties.getReplica();
+        for (int i = 0; i < replicaConfigs.size(); i++) {
+            HikariConfig hikariConfig = replicaConfigs.get(i);
+            String name = REPLICA_POOL_NAME + i;
+            if (hikariConfig.getPoolName() == null) {
+                hikariConfig.setPoolName(name);
+            }
+            hikariConfig.setReadOnly(true);
+            HikariDataSource pool = new HikariDataSource(hikariConfig);
+            replicas.add(new ReplicationRoutingDataSource.Replica(name, pool, limit(pool, limitConnections, acquireTimeout)));
+        }
+        DataSource master = limit(masterDataSource, limitConnections, acquireTimeout);
+        return new ReplicationRoutingDataSource(master, replicas, healthCheckInterval);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicationRoutingDataSource routingDataSource, QueryMetrics queryMetrics) {
+        return new LazyConnectionDataSourceProxy(new StatementTimingDataSource(routingDataSource, queryMetrics));
+    }
+
+    /**
+     * On virtual threads every pool is guarded by its own semaphore sized to the pool.
+     */
+    private DataSource limit(HikariDataSource pool, boolean limitConnections, Duration acquireTimeout) {
+        if (!limitConnections) {
+            return pool;
+        }
+        return new ConnectionLimitingDataSource(pool, pool.getMaximumPoolSize(), acquireTimeout);
+    }
+}
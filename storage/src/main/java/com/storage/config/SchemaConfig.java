@@ -0,0 +1,30 @@
+package com.storage.config;
+
+import com.storage.schema.ExpectedIndex;
+import com.storage.schema.IndexVerifier;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class SchemaConfig {
+
+    /**
+     * Takes the entity manager factory so the check runs after Flyway migrated the schema, replicas are left
+     * out since they replay the same migrations.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "storage.schema", name = "verify-indexes", matchIfMissing = true)
+    public IndexVerifier indexVerifier(@Qualifier("masterDataSource") HikariDataSource masterDataSource,
+                                       EntityManagerFactory entityManagerFactory) {
+        List<ExpectedIndex> expectedIndexes = entityManagerFactory.getMetamodel().getEntities().stream()
+                .flatMap(entity -> ExpectedIndex.of(entity.getJavaType()).stream())
+                .toList();
+        return new IndexVerifier(masterDataSource, expectedIndexes);
+    }
+}
@@ -0,0 +1,49 @@
+package com.storage.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes hit, miss and put counts of every second-level cache region from Hibernate's statistics.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "storage.cache";
+
+    private final Statistics statistics;
+    private final Collection<String> regions;
+
+    public SecondLevelCacheMetrics(Statistics statistics, Collection<String> regions) {
+        this.statistics = statistics;
+        this.regions = regions;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : regions) {
+            register(registry, METRIC_PREFIX + ".requests", region, "hit", CacheRegionStatistics::getHitCount);
+            register(registry, METRIC_PREFIX + ".requests", region, "miss", CacheRegionStatistics::getMissCount);
+            register(registry, METRIC_PREFIX + ".puts", region, null, CacheRegionStatistics::getPutCount);
+        }
+    }
+
+    private void register(MeterRegistry registry, String name, String region, String result,
+                          ToLongFunction<CacheRegionStatistics> count) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, stats -> {
+                    // null until Hibernate has built the region
+                    CacheRegionStatistics regionStatistics = stats.getCacheRegionStatistics(region);
+                    return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+                })
+                .tag("region", region);
+        if (result != null) {
+            builder.tag("result", result);
+        }
+        builder.register(registry);
+    }
+}
@@ -0,0 +1,23 @@
+package com.storage.config;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+public class SecondLevelCacheProperties {
+
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Region {
+
+        private Duration expireAfterWrite = Duration.ofMinutes(10);
+        private long maximumSize = 10_000L;
+    }
+}
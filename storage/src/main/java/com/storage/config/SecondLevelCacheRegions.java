@@ -0,0 +1,38 @@
+package com.storage.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+public class SecondLevelCacheRegions {
+
+    private static final String CACHE_MANAGER_URI_PREFIX = "storage-second-level-cache-";
+
+    private SecondLevelCacheRegions() {
+    }
+
+    /**
+     * Creates a Caffeine backed JCache manager with one bounded, expiring cache per configured region.
+     * Every call gets its own manager, so application contexts living side by side never share regions.
+     */
+    public static CacheManager createCacheManager(Map<String, SecondLevelCacheProperties.Region> regions) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create(CACHE_MANAGER_URI_PREFIX + UUID.randomUUID()),
+                        SecondLevelCacheRegions.class.getClassLoader());
+        regions.forEach((name, region) -> cacheManager.createCache(name, regionConfiguration(region)));
+        return cacheManager;
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(SecondLevelCacheProperties.Region region) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+        configuration.setExpireAfterWrite(OptionalLong.of(region.getExpireAfterWrite().toNanos()));
+        return configuration;
+    }
+}
@@ -0,0 +1,104 @@
+package com.storage.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores text as bytes prefixed with a format byte, Deflate-compressing it once it reaches {@link #THRESHOLD_BYTES}
+ * and compression actually saves space.
+ * <p>
+ * Format bytes are never valid leading bytes in UTF-8, so a value without one is a row written before this
+ * converter existed and is read as plain UTF-8. New formats, for example a dictionary-primed Deflate,
+ * can be added with another format byte without rewriting existing rows.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    static final int THRESHOLD_BYTES = 1024;
+    static final byte FORMAT_PLAIN = (byte) 0xF8;
+    static final byte FORMAT_DEFLATE = (byte) 0xF9;
+
+    private static final int BUFFER_SIZE = 4096;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        byte[] text = attribute.getBytes(StandardCharsets.UTF_8);
+        if (text.length >= THRESHOLD_BYTES) {
+            byte[] compressed = deflate(text);
+            if (compressed.length < text.length) {
+                return compressed;
+            }
+        }
+        return withFormat(FORMAT_PLAIN, text);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        if (dbData.length == 0) {
+            return "";
+        }
+        return switch (dbData[0]) {
+            case FORMAT_PLAIN -> new String(dbData, 1, dbData.length - 1, StandardCharsets.UTF_8);
+            case FORMAT_DEFLATE -> inflate(dbData);
+            default -> new String(dbData, StandardCharsets.UTF_8);
+        };
+    }
+
+    private byte[] deflate(byte[] text) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(text);
+            deflater.finish();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(text.length / 2 + 1);
+            output.write(FORMAT_DEFLATE);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                output.write(buffer, 0, length);
+            }
+            return output.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private String inflate(byte[] dbData) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(dbData, 1, dbData.length - 1);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(dbData.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed text");
+                }
+                output.write(buffer, 0, length);
+            }
+            return output.toString(StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted compressed text", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private byte[] withFormat(byte format, byte[] data) {
+        byte[] result = new byte[data.length + 1];
+        result[0] = format;
+        System.arraycopy(data, 0, result, 1, data.length);
+        return result;
+    }
+}
@@ -1,28 +1,34 @@
 package com.storage.entity;
 
+import com.storage.event.AccountChangeListener;
+import com.storage.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-
-import static jakarta.persistence.GenerationType.IDENTITY;
+import lombok.Setter;
 
 @Entity
+@EntityListeners(AccountChangeListener.class)
+@Table(indexes = @Index(name = "UK_account_email", columnList = "email", unique = true))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Account extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @Column(unique = true)
+    @Column
     private String email;
 
+    @Setter
     @Column
     private String password;
 
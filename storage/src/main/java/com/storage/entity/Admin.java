@@ -1,27 +1,30 @@
 package com.storage.entity;
 
+import com.storage.id.TimeOrderedId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = @Index(name = "UK_admin_account_id", columnList = "account_id", unique = true))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Admin extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @OneToOne
+    @OneToOne(fetch = LAZY)
     @JoinColumn(name = "account_id", foreignKey = @ForeignKey(name = "FK_admin_account_id"))
     private Account account;
 }
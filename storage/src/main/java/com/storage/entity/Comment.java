@@ -1,39 +1,54 @@
 package com.storage.entity;
 
+import com.storage.id.TimeOrderedId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.FetchType.LAZY;
 
 @Entity
+@Table(indexes = @Index(name = "IDX_comment_post_root", columnList = "post_id, parent_comment_id, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "FK_comment_user_id"))
     private User author;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "post_id", foreignKey = @ForeignKey(name = "FK_comment_post_id"))
     private Post post;
 
-    @ManyToOne
+    @ManyToOne(fetch = LAZY)
     @JoinColumn(name = "parent_comment_id", foreignKey = @ForeignKey(name = "FK_comment_parent_comment_id"))
     private Comment parentComment;
 
     @Column(columnDefinition = "TEXT")
     private String content;
+
+    @Column
+    private int replyCount;
+
+    @Builder
+    private Comment(User author, Post post, Comment parentComment, String content) {
+        this.author = author;
+        this.post = post;
+        this.parentComment = parentComment;
+        this.content = content;
+    }
 }
@@ -0,0 +1,30 @@
+package com.storage.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A lease on a scheduled job, so a job that must not run on several instances at once runs on one of them.
+ * Rows are inserted by {@code JobLockRepository.create} the first time a job runs.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobLock {
+
+    @Id
+    @Column(columnDefinition = "VARCHAR(64)")
+    private String name;
+
+    @Column
+    private LocalDateTime lockedUntil;
+
+    @Column(columnDefinition = "VARCHAR(64)")
+    private String lockedBy;
+}
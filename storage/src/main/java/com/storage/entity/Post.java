@@ -1,27 +1,39 @@
 package com.storage.entity;
 
+import com.storage.converter.CompressedTextConverter;
+import com.storage.id.TimeOrderedId;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
 
 @Entity
+@NamedEntityGraph(name = Post.WITH_AUTHOR, attributeNodes = @NamedAttributeNode("author"))
+@Table(indexes = {
+        @Index(name = "IDX_post_feed", columnList = "createdAt, id, user_id, location, title, views, commentCount, needPremium"),
+        @Index(name = "IDX_post_location_feed", columnList = "location, createdAt, id, user_id, title, views, commentCount, needPremium")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Post extends BaseEntity {
 
+    public static final String WITH_AUTHOR = "Post.withAuthor";
+
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = LAZY)
@@ -34,12 +46,16 @@ public class Post extends BaseEntity {
     @Column
     private String title;
 
-    @Column(columnDefinition = "MEDIUMTEXT")
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(columnDefinition = "MEDIUMBLOB")
     private String content;
 
     @Column
     private int views;
 
+    @Column
+    private int commentCount;
+
     @Column
     private boolean needPremium;
 
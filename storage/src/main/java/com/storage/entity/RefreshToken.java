@@ -0,0 +1,66 @@
+package com.storage.entity;
+
+import com.storage.id.TimeOrderedId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.FetchType.LAZY;
+
+@Entity
+@NamedEntityGraph(name = RefreshToken.WITH_USER, attributeNodes = @NamedAttributeNode("user"))
+@Table(indexes = {
+        @Index(name = "UK_refresh_token_token_hash", columnList = "tokenHash", unique = true),
+        @Index(name = "IDX_refresh_token_family_id", columnList = "familyId"),
+        @Index(name = "IDX_refresh_token_expires_at", columnList = "expiresAt")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken extends BaseEntity {
+
+    public static final String WITH_USER = "RefreshToken.withUser";
+
+    @Id
+    @TimeOrderedId
+    private Long id;
+
+    @ManyToOne(fetch = LAZY)
+    @JoinColumn(name = "user_id", foreignKey = @ForeignKey(name = "FK_refresh_token_user_id"))
+    private User user;
+
+    @Column(columnDefinition = "CHAR(64)")
+    private String tokenHash;
+
+    @Column(columnDefinition = "CHAR(36)")
+    private String familyId;
+
+    @Column
+    private LocalDateTime expiresAt;
+
+    @Column
+    private boolean used;
+
+    @Column
+    private boolean revoked;
+
+    @Builder
+    private RefreshToken(User user, String tokenHash, String familyId, LocalDateTime expiresAt) {
+        this.user = user;
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.expiresAt = expiresAt;
+    }
+}
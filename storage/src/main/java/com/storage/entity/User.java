@@ -1,11 +1,17 @@
 package com.storage.entity;
 
+import com.storage.event.UserChangeListener;
+import com.storage.id.TimeOrderedId;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.ForeignKey;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
@@ -13,19 +19,26 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
 
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = READ_WRITE, region = "user")
+@EntityListeners(UserChangeListener.class)
+@NamedEntityGraph(name = User.WITH_ACCOUNT, attributeNodes = @NamedAttributeNode("account"))
+@Table(name = "users", indexes = @Index(name = "UK_users_account_id", columnList = "account_id", unique = true))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity {
 
+    public static final String WITH_ACCOUNT = "User.withAccount";
+
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @OneToOne(fetch = LAZY)
@@ -41,15 +54,11 @@ public class User extends BaseEntity {
     @Column(length = 300)
     private String bio;
 
-    @Column(length = 600)
-    private String refreshToken;
-
     @Builder
-    public User(Account account, String nickname, String profileImageUrl, String bio, String refreshToken) {
+    public User(Account account, String nickname, String profileImageUrl, String bio) {
         this.account = account;
         this.nickname = nickname;
         this.profileImageUrl = profileImageUrl;
         this.bio = bio;
-        this.refreshToken = refreshToken;
     }
 }
@@ -0,0 +1,22 @@
+package com.storage.event;
+
+import com.storage.entity.Account;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Created by Hibernate through Spring's bean container like {@link ProductChangeListener}. Bulk JPQL updates bypass it.
+ */
+@RequiredArgsConstructor
+public class AccountChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    @PostRemove
+    public void onChange(Account account) {
+        eventPublisher.publishEvent(new AccountChangedEvent(account.getId()));
+    }
+}
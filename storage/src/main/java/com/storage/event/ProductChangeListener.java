@@ -0,0 +1,27 @@
+package com.storage.event;
+
+import com.storage.entity.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Created by Hibernate through Spring's bean container, so the publisher is injected even though
+ * this class is not a registered bean. Bulk JPQL updates bypass it.
+ */
+@RequiredArgsConstructor
+public class ProductChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Product product) {
+        if (product.getUser() != null) {
+            eventPublisher.publishEvent(new ProductChangedEvent(product.getUser().getId()));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+package com.storage.event;
+
+public record ProductChangedEvent(Long userId) {
+}
@@ -0,0 +1,45 @@
+package com.storage.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+
+import java.lang.reflect.Member;
+
+/**
+ * The node id is read from the Hibernate setting {@value #NODE_ID_SETTING}, which Spring fills from
+ * {@code spring.jpa.properties}. Every application instance writing to the same database needs its own node id,
+ * so there is no default: two instances silently sharing one would generate colliding ids.
+ */
+public class TimeOrderedIdGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "storage.id.node-id";
+
+    private final TimeOrderedIdSequence sequence;
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member member, CustomIdGeneratorCreationContext context) {
+        ServiceRegistry serviceRegistry = context.getServiceRegistry();
+        String nodeId = serviceRegistry.getService(ConfigurationService.class)
+                .getSetting(NODE_ID_SETTING, StandardConverters.STRING);
+        this.sequence = new TimeOrderedIdSequence(parseNodeId(nodeId));
+    }
+
+    static int parseNodeId(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalStateException(NODE_ID_SETTING + " is not set, give every instance its own STORAGE_NODE_ID");
+        }
+        try {
+            return Integer.parseInt(nodeId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(NODE_ID_SETTING + " must be a number: " + nodeId, e);
+        }
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return sequence.next();
+    }
+}
@@ -0,0 +1,54 @@
+package com.storage.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free 64-bit id source laid out as 41 bits of milliseconds since {@link #EPOCH},
+ * 10 bits of node id and 12 bits of per-millisecond sequence.
+ * <p>
+ * The timestamp and sequence are packed into a single {@link AtomicLong}, so when a millisecond runs out of
+ * sequence numbers the overflow carries into the next millisecond instead of waiting for the clock.
+ * Ids keep increasing even if the wall clock steps back.
+ */
+public class TimeOrderedIdSequence {
+
+    public static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private final long node;
+    private final LongSupplier clock;
+    private final AtomicLong state = new AtomicLong();
+
+    public TimeOrderedIdSequence(int nodeId) {
+        this(nodeId, System::currentTimeMillis);
+    }
+
+    TimeOrderedIdSequence(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = (long) nodeId << SEQUENCE_BITS;
+        this.clock = clock;
+    }
+
+    /**
+     * The smallest id any node can generate at {@code instant}, usable as an exclusive lower bound for
+     * "everything created since" scans.
+     */
+    public static long lowestIdAt(Instant instant) {
+        return Math.max(instant.toEpochMilli() - EPOCH.toEpochMilli(), 0L) << (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    public long next() {
+        long now = (clock.getAsLong() - EPOCH.toEpochMilli()) << SEQUENCE_BITS;
+        long next = state.updateAndGet(last -> Math.max(last + 1, now));
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return timestamp << (NODE_BITS + SEQUENCE_BITS) | node | sequence;
+    }
+}
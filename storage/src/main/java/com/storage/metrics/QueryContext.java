@@ -0,0 +1,46 @@
+package com.storage.metrics;
+
+/**
+ * Thread-bound state the statement layer reads to attribute a statement: the stats of the request being served
+ * and the repository method currently running.
+ */
+public final class QueryContext {
+
+    private static final ThreadLocal<QueryStats> REQUEST_STATS = new ThreadLocal<>();
+    private static final ThreadLocal<String> REPOSITORY_METHOD = new ThreadLocal<>();
+
+    private QueryContext() {
+    }
+
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        REQUEST_STATS.set(stats);
+        return stats;
+    }
+
+    public static void end() {
+        REQUEST_STATS.remove();
+    }
+
+    public static QueryStats current() {
+        return REQUEST_STATS.get();
+    }
+
+    public static String repositoryMethod() {
+        return REPOSITORY_METHOD.get();
+    }
+
+    static String enterRepository(String repositoryMethod) {
+        String previous = REPOSITORY_METHOD.get();
+        REPOSITORY_METHOD.set(repositoryMethod);
+        return previous;
+    }
+
+    static void exitRepository(String previous) {
+        if (previous == null) {
+            REPOSITORY_METHOD.remove();
+        } else {
+            REPOSITORY_METHOD.set(previous);
+        }
+    }
+}
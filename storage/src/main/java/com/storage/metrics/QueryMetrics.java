@@ -0,0 +1,73 @@
+package com.storage.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every JDBC statement and tags it with the repository method that issued it, see
+ * {@link RepositoryMethodTagger}. Statements run outside a repository call are tagged {@code none}, which
+ * includes the INSERTs and UPDATEs Hibernate flushes at commit: dirty checking and persisted entities without a
+ * generated id are written after the repository method has returned, so their time shows up under {@code none}
+ * and not under the service method that changed the entities.
+ */
+@Slf4j
+public class QueryMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "storage.query";
+    private static final String NO_REPOSITORY = "none";
+    private static final int LOGGED_SQL_LENGTH = 500;
+
+    private final long slowThresholdNanos;
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Counter> slowCounters = new ConcurrentHashMap<>();
+    private volatile MeterRegistry registry;
+
+    public QueryMetrics(Duration slowThreshold) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+    }
+
+    /**
+     * Called by the statement layer once per executed statement. Meters are only published when a registry
+     * is bound, the request stats and the slow statement log work without one.
+     */
+    public void record(String sql, long nanos) {
+        boolean slow = nanos >= slowThresholdNanos;
+        QueryStats stats = QueryContext.current();
+        if (stats != null) {
+            stats.record(nanos, slow);
+        }
+        String repositoryMethod = QueryContext.repositoryMethod();
+        String repository = repositoryMethod == null ? NO_REPOSITORY : repositoryMethod;
+        MeterRegistry registry = this.registry;
+        if (registry != null) {
+            timers.computeIfAbsent(repository, tag -> Timer.builder(METRIC_PREFIX)
+                            .tag("repository", tag)
+                            .register(registry))
+                    .record(nanos, TimeUnit.NANOSECONDS);
+            if (slow) {
+                slowCounters.computeIfAbsent(repository, tag -> Counter.builder(METRIC_PREFIX + ".slow")
+                                .tag("repository", tag)
+                                .register(registry))
+                        .increment();
+            }
+        }
+        if (slow) {
+            log.warn("Slow query took {} ms in {}: {}", TimeUnit.NANOSECONDS.toMillis(nanos), repository,
+                    sql == null || sql.length() <= LOGGED_SQL_LENGTH ? sql : sql.substring(0, LOGGED_SQL_LENGTH) + "...");
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        timers.clear();
+        slowCounters.clear();
+        this.registry = registry;
+    }
+}
@@ -0,0 +1,22 @@
+package com.storage.metrics;
+
+import lombok.Getter;
+
+/**
+ * Statements issued while one request was being served, only ever touched by the thread serving it.
+ */
+@Getter
+public class QueryStats {
+
+    private int statements;
+    private long jdbcNanos;
+    private int slowStatements;
+
+    void record(long nanos, boolean slow) {
+        statements++;
+        jdbcNanos += nanos;
+        if (slow) {
+            slowStatements++;
+        }
+    }
+}
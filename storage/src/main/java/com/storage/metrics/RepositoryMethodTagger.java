@@ -0,0 +1,47 @@
+package com.storage.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adds an advice to every Spring Data repository that names the running method, e.g.
+ * {@code PostRepository.findFeed}, so statements can be tagged with the repository call that issued them.
+ */
+public class RepositoryMethodTagger implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(
+                            new RepositoryMethodInterceptor(information.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static class RepositoryMethodInterceptor implements MethodInterceptor {
+
+        private final String repositoryName;
+        private final ConcurrentHashMap<Method, String> names = new ConcurrentHashMap<>();
+
+        private RepositoryMethodInterceptor(String repositoryName) {
+            this.repositoryName = repositoryName;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            String name = names.computeIfAbsent(invocation.getMethod(), method -> repositoryName + "." + method.getName());
+            String previous = QueryContext.enterRepository(name);
+            try {
+                return invocation.proceed();
+            } finally {
+                QueryContext.exitRepository(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.storage.projection;
+
+import java.time.LocalDateTime;
+
+public record CommentRow(
+        Long id,
+        Long parentId,
+        Long authorId,
+        String authorNickname,
+        String content,
+        int replyCount,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,4 @@
+package com.storage.projection;
+
+public record LocationCount(String location, long count) {
+}
@@ -0,0 +1,11 @@
+package com.storage.projection;
+
+import java.time.LocalDateTime;
+
+public record PostActivity(
+        Long id,
+        String location,
+        int views,
+        LocalDateTime createdAt
+) {
+}
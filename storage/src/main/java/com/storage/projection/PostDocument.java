@@ -0,0 +1,9 @@
+package com.storage.projection;
+
+public record PostDocument(
+        Long id,
+        String location,
+        String title,
+        String content
+) {
+}
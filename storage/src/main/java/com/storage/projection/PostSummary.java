@@ -0,0 +1,16 @@
+package com.storage.projection;
+
+import java.time.LocalDateTime;
+
+public record PostSummary(
+        Long id,
+        String location,
+        String title,
+        int views,
+        int commentCount,
+        boolean needPremium,
+        LocalDateTime createdAt,
+        Long authorId,
+        String authorNickname
+) {
+}
@@ -1,7 +1,55 @@
 package com.storage.repository;
 
 import com.storage.entity.Comment;
+import com.storage.projection.CommentRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+
+    @Query("""
+            SELECT new com.storage.projection.CommentRow(
+                c.id, c.parentComment.id, a.id, a.nickname, c.content, c.replyCount, c.createdAt)
+            FROM Comment c
+                JOIN c.author a
+            WHERE c.post.id = :postId AND c.parentComment IS NULL AND c.id > :cursor
+            ORDER BY c.id
+            """)
+    List<CommentRow> findRootRowsAfter(Long postId, Long cursor, Limit limit);
+
+    @Query("SELECT c FROM Comment c WHERE c.id = :id AND c.post.id = :postId")
+    Optional<Comment> findByIdAndPostId(Long id, Long postId);
+
+    @Query(nativeQuery = true, value = """
+            SELECT MAX(chunk.id)
+            FROM (SELECT c.id FROM comment c WHERE c.id > :id ORDER BY c.id LIMIT :size) chunk
+            """)
+    Long findChunkEndAfter(Long id, int size);
+
+    /**
+     * Overwrites the reply counts of comments in {@code (from, to]} with their counted replies. Comments with a
+     * reply at or above {@code settledId} are left alone, an instance may still hold that reply in its buffer.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE comment
+            SET reply_count = COALESCE((SELECT counted.replies
+                                        FROM (SELECT r.parent_comment_id AS id, COUNT(*) AS replies
+                                              FROM comment r
+                                              WHERE r.parent_comment_id > :from AND r.parent_comment_id <= :to
+                                              GROUP BY r.parent_comment_id) counted
+                                        WHERE counted.id = comment.id), 0)
+            WHERE id > :from AND id <= :to
+                AND id NOT IN (SELECT recent.id
+                               FROM (SELECT DISTINCT r.parent_comment_id AS id
+                                     FROM comment r
+                                     WHERE r.id >= :settledId
+                                         AND r.parent_comment_id > :from AND r.parent_comment_id <= :to) recent)
+            """)
+    int recountReplyCounts(Long from, Long to, long settledId);
 }
@@ -0,0 +1,14 @@
+package com.storage.repository;
+
+import com.storage.projection.CommentRow;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface CommentRepositoryCustom {
+
+    int increaseReplyCounts(Map<Long, Long> deltas);
+
+    List<CommentRow> findReplyRows(Collection<Long> rootIds, int maxDepth);
+}
@@ -0,0 +1,76 @@
+package com.storage.repository;
+
+import com.storage.projection.CommentRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    private static final String FIND_REPLY_ROWS = """
+            WITH RECURSIVE thread (id, depth) AS (
+                SELECT r.id, 1
+                FROM comment r
+                WHERE r.parent_comment_id IN (:rootIds)
+                UNION ALL
+                SELECT r.id, t.depth + 1
+                FROM comment r
+                    JOIN thread t ON r.parent_comment_id = t.id
+                WHERE t.depth < :maxDepth
+            )
+            SELECT c.id, c.parent_comment_id AS parent_id, u.id AS author_id, u.nickname AS author_nickname,
+                c.content, c.reply_count, c.created_at
+            FROM thread t
+                JOIN comment c ON c.id = t.id
+                JOIN users u ON u.id = c.user_id
+            ORDER BY c.id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int increaseReplyCounts(Map<Long, Long> deltas) {
+        return CounterUpdates.increase(entityManager, "Comment", "replyCount", deltas);
+    }
+
+    /**
+     * Reads the replies below {@code rootIds} down to {@code maxDepth} levels with one recursive query, so a
+     * thread costs one statement however deep it goes. Replies further down are not read, the reply count of
+     * the deepest reply still tells they exist.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<CommentRow> findReplyRows(Collection<Long> rootIds, int maxDepth) {
+        if (rootIds.isEmpty() || maxDepth < 1) {
+            return List.of();
+        }
+        List<Object[]> rows = entityManager.createNativeQuery(FIND_REPLY_ROWS)
+                .setParameter("rootIds", rootIds)
+                .setParameter("maxDepth", maxDepth)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", Long.class)
+                .addScalar("parent_id", Long.class)
+                .addScalar("author_id", Long.class)
+                .addScalar("author_nickname", String.class)
+                .addScalar("content", String.class)
+                .addScalar("reply_count", Integer.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .getResultList();
+        List<CommentRow> replies = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            replies.add(new CommentRow((Long) row[0], (Long) row[1], (Long) row[2], (String) row[3],
+                    (String) row[4], (Integer) row[5], (LocalDateTime) row[6]));
+        }
+        return replies;
+    }
+}
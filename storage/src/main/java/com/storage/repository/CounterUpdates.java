@@ -0,0 +1,51 @@
+package com.storage.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+class CounterUpdates {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private CounterUpdates() {
+    }
+
+    /**
+     * Applies all deltas with one {@code UPDATE ... SET counter = counter + CASE id ... END} per chunk
+     * instead of one statement per row. Must run inside a transaction.
+     */
+    static int increase(EntityManager entityManager, String entity, String counter, Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from,
+                    Math.min(from + MAX_ROWS_PER_STATEMENT, entries.size()));
+            updated += increase(entityManager, entity, counter, chunk);
+        }
+        return updated;
+    }
+
+    private static int increase(EntityManager entityManager, String entity, String counter,
+                                List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder jpql = new StringBuilder("UPDATE ").append(entity).append(" e SET e.").append(counter)
+                .append(" = e.").append(counter).append(" + CASE e.id");
+        for (int i = 0; i < chunk.size(); i++) {
+            jpql.append(" WHEN :id").append(i).append(" THEN :delta").append(i);
+        }
+        jpql.append(" ELSE 0 END WHERE e.id IN :ids");
+
+        Query query = entityManager.createQuery(jpql.toString());
+        List<Long> ids = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Map.Entry<Long, Long> entry = chunk.get(i);
+            query.setParameter("id" + i, entry.getKey());
+            query.setParameter("delta" + i, Math.toIntExact(entry.getValue()));
+            ids.add(entry.getKey());
+        }
+        return query.setParameter("ids", ids).executeUpdate();
+    }
+}
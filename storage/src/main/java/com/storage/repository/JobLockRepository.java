@@ -0,0 +1,44 @@
+package com.storage.repository;
+
+import com.storage.entity.JobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface JobLockRepository extends JpaRepository<JobLock, String> {
+
+    /**
+     * Takes over the lease only if it has run out, so of two instances racing for it exactly one updates the row.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE JobLock l
+            SET l.lockedUntil = :lockedUntil, l.lockedBy = :lockedBy
+            WHERE l.name = :name AND l.lockedUntil <= :now
+            """)
+    int acquire(String name, String lockedBy, LocalDateTime now, LocalDateTime lockedUntil);
+
+    /**
+     * Inserts the lease for a job seen for the first time, an instance that loses the race gets a duplicate key.
+     */
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO job_lock (name, locked_until, locked_by)
+            VALUES (:name, :lockedUntil, :lockedBy)
+            """)
+    int create(String name, String lockedBy, LocalDateTime lockedUntil);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE JobLock l
+            SET l.lockedUntil = :now
+            WHERE l.name = :name AND l.lockedBy = :lockedBy
+            """)
+    int release(String name, String lockedBy, LocalDateTime now);
+}
@@ -1,7 +1,130 @@
 package com.storage.repository;
 
 import com.storage.entity.Post;
+import com.storage.projection.LocationCount;
+import com.storage.projection.PostDocument;
+import com.storage.projection.PostSummary;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryCustom {
+
+    @EntityGraph(Post.WITH_AUTHOR)
+    @Query("SELECT p FROM Post p WHERE p.id = :id")
+    Optional<Post> findByIdWithAuthor(Long id);
+
+    @Query("""
+            SELECT new com.storage.projection.PostSummary(
+                p.id, p.location, p.title, p.views, p.commentCount, p.needPremium, p.createdAt, a.id, a.nickname)
+            FROM Post p
+                JOIN p.author a
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummary> findFeed(Limit limit);
+
+    @Query("""
+            SELECT new com.storage.projection.PostSummary(
+                p.id, p.location, p.title, p.views, p.commentCount, p.needPremium, p.createdAt, a.id, a.nickname)
+            FROM Post p
+                JOIN p.author a
+            WHERE p.createdAt < :createdAt
+                OR (p.createdAt = :createdAt AND p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummary> findFeedAfter(LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("""
+            SELECT new com.storage.projection.PostSummary(
+                p.id, p.location, p.title, p.views, p.commentCount, p.needPremium, p.createdAt, a.id, a.nickname)
+            FROM Post p
+                JOIN p.author a
+            WHERE p.location = :location
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummary> findFeedByLocation(String location, Limit limit);
+
+    @Query("""
+            SELECT new com.storage.projection.PostSummary(
+                p.id, p.location, p.title, p.views, p.commentCount, p.needPremium, p.createdAt, a.id, a.nickname)
+            FROM Post p
+                JOIN p.author a
+            WHERE p.location = :location
+                AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostSummary> findFeedByLocationAfter(String location, LocalDateTime createdAt, Long id, Limit limit);
+
+    @Query("""
+            SELECT new com.storage.projection.PostSummary(
+                p.id, p.location, p.title, p.views, p.commentCount, p.needPremium, p.createdAt, a.id, a.nickname)
+            FROM Post p
+                JOIN p.author a
+            WHERE p.id IN :ids
+            """)
+    List<PostSummary> findSummariesByIdIn(Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.storage.projection.PostDocument(p.id, p.location, p.title, p.content)
+            FROM Post p
+            WHERE p.id > :id
+            ORDER BY p.id
+            """)
+    List<PostDocument> findDocumentsAfter(Long id, Limit limit);
+
+    @Query("""
+            SELECT new com.storage.projection.PostDocument(p.id, p.location, p.title, p.content)
+            FROM Post p
+            WHERE p.id IN :ids
+            ORDER BY p.id
+            """)
+    List<PostDocument> findDocumentsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.id FROM Post p WHERE p.id > :fromId AND p.id <= :toId ORDER BY p.id")
+    List<Long> findIdsBetween(Long fromId, Long toId);
+
+    @Query("SELECT MAX(p.id) FROM Post p")
+    Long findMaxId();
+
+    @Query("""
+            SELECT new com.storage.projection.LocationCount(p.location, COUNT(p))
+            FROM Post p
+            WHERE p.id <= :maxId
+            GROUP BY p.location
+            """)
+    List<LocationCount> countByLocationUpTo(Long maxId);
+
+    @Query("""
+            SELECT new com.storage.projection.LocationCount(p.location, COUNT(p))
+            FROM Post p
+            WHERE p.id > :fromId AND p.id <= :toId
+            GROUP BY p.location
+            """)
+    List<LocationCount> countByLocationBetween(Long fromId, Long toId);
+
+    @Query(nativeQuery = true, value = """
+            SELECT MAX(chunk.id)
+            FROM (SELECT p.id FROM post p WHERE p.id > :id ORDER BY p.id LIMIT :size) chunk
+            """)
+    Long findChunkEndAfter(Long id, int size);
+
+    /**
+     * Overwrites the comment counts of posts in {@code (from, to]} with their counted comments. Posts with a
+     * comment at or above {@code settledId} are left alone, an instance may still hold that comment in its buffer.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE post
+            SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.post_id = post.id)
+            WHERE id > :from AND id <= :to
+                AND NOT EXISTS (SELECT 1 FROM comment c WHERE c.post_id = post.id AND c.id >= :settledId)
+            """)
+    int recountCommentCounts(Long from, Long to, long settledId);
 }
@@ -0,0 +1,16 @@
+package com.storage.repository;
+
+import com.storage.projection.PostActivity;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface PostRepositoryCustom {
+
+    int increaseViews(Map<Long, Long> deltas);
+
+    int increaseCommentCounts(Map<Long, Long> deltas);
+
+    Stream<PostActivity> streamActivitiesSince(LocalDateTime createdAt);
+}
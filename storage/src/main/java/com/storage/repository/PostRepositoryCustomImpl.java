@@ -0,0 +1,46 @@
+package com.storage.repository;
+
+import com.storage.projection.PostActivity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+public class PostRepositoryCustomImpl implements PostRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int increaseViews(Map<Long, Long> deltas) {
+        return CounterUpdates.increase(entityManager, "Post", "views", deltas);
+    }
+
+    @Override
+    @Transactional
+    public int increaseCommentCounts(Map<Long, Long> deltas) {
+        return CounterUpdates.increase(entityManager, "Post", "commentCount", deltas);
+    }
+
+    /**
+     * Streams rows from the database instead of loading them all, the caller's transaction must stay open
+     * until the stream is closed.
+     */
+    @Override
+    public Stream<PostActivity> streamActivitiesSince(LocalDateTime createdAt) {
+        return entityManager.createQuery("""
+                        SELECT new com.storage.projection.PostActivity(p.id, p.location, p.views, p.createdAt)
+                        FROM Post p
+                        WHERE p.createdAt >= :createdAt
+                        """, PostActivity.class)
+                .setParameter("createdAt", createdAt)
+                .setHint(HINT_FETCH_SIZE, StreamingFetch.fetchSize(entityManager))
+                .getResultStream();
+    }
+}
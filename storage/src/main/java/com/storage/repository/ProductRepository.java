@@ -9,4 +9,6 @@ import java.util.Optional;
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     Optional<Product> findByUser(User user);
+
+    Optional<Product> findByUserId(Long userId);
 }
@@ -0,0 +1,42 @@
+package com.storage.repository;
+
+import com.storage.entity.RefreshToken;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @EntityGraph(RefreshToken.WITH_USER)
+    @Query("SELECT r FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(String tokenHash);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE RefreshToken r
+            SET r.revoked = true
+            WHERE r.familyId = :familyId
+            """)
+    int revokeFamily(String familyId);
+
+    /**
+     * Marks the token used only if nobody else did, so of two concurrent reissues exactly one updates a row.
+     */
+    @Modifying
+    @Query("""
+            UPDATE RefreshToken r
+            SET r.used = true
+            WHERE r.id = :id AND r.used = false AND r.revoked = false AND r.expiresAt > :now
+            """)
+    int markUsed(Long id, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
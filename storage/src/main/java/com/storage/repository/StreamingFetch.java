@@ -0,0 +1,26 @@
+package com.storage.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+final class StreamingFetch {
+
+    private static final String MYSQL = "MySQL";
+    private static final int MYSQL_ROW_BY_ROW = Integer.MIN_VALUE;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private StreamingFetch() {
+    }
+
+    /**
+     * Connector/J reads a whole result set into memory and ignores a positive fetch size unless the pool turns
+     * cursor fetch on, which would make every statement a server-side prepared one. {@code Integer.MIN_VALUE}
+     * streams rows one by one for this statement only, nothing else may run on the connection until the result
+     * set is closed. H2 rejects a negative fetch size, so other databases get a regular one.
+     */
+    static int fetchSize(EntityManager entityManager) {
+        String product = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+        return MYSQL.equals(product) ? MYSQL_ROW_BY_ROW : DEFAULT_FETCH_SIZE;
+    }
+}
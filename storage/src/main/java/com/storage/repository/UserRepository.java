@@ -1,6 +1,7 @@
 package com.storage.repository;
 
 import com.storage.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -8,21 +9,16 @@ import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @EntityGraph(User.WITH_ACCOUNT)
     @Query("""
             SELECT u
             FROM User u
-                JOIN FETCH u.account a
+                JOIN u.account a
             WHERE a.email = :email
             """)
     Optional<User> findByAccountEmail(String email);
 
-    @Query("""
-            SELECT u
-            FROM User u
-                JOIN FETCH u.account a
-            WHERE u.id = :id
-            """)
+    @EntityGraph(User.WITH_ACCOUNT)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
     Optional<User> findByIdWithAccount(Long id);
-
-    Optional<User> findByIdAndRefreshToken(Long userId, String refreshToken);
 }
@@ -0,0 +1,53 @@
+package com.storage.schema;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An index declared on an entity, with table and column names translated the way the physical naming
+ * strategy translates them, {@code createdAt} becomes {@code created_at}.
+ */
+public record ExpectedIndex(String table, String name, List<String> columns, boolean unique) {
+
+    public static List<ExpectedIndex> of(Class<?> entityType) {
+        Table table = entityType.getAnnotation(Table.class);
+        if (table == null || table.indexes().length == 0) {
+            return List.of();
+        }
+        String tableName = table.name().isEmpty() ? toPhysicalName(entityName(entityType)) : table.name();
+        List<ExpectedIndex> indexes = new ArrayList<>(table.indexes().length);
+        for (Index index : table.indexes()) {
+            List<String> columns = Arrays.stream(index.columnList().split(","))
+                    .map(column -> column.trim().split("\\s+")[0])
+                    .map(ExpectedIndex::toPhysicalName)
+                    .toList();
+            indexes.add(new ExpectedIndex(tableName, index.name(), columns, index.unique()));
+        }
+        return indexes;
+    }
+
+    private static String entityName(Class<?> entityType) {
+        Entity entity = entityType.getAnnotation(Entity.class);
+        return entity == null || entity.name().isEmpty() ? entityType.getSimpleName() : entity.name();
+    }
+
+    /**
+     * Same rule as Spring's {@code CamelCaseToUnderscoresNamingStrategy}, an underscore goes before every
+     * upper case letter that sits between two lower case ones.
+     */
+    static String toPhysicalName(String name) {
+        StringBuilder builder = new StringBuilder(name);
+        for (int i = 1; i < builder.length() - 1; i++) {
+            if (Character.isLowerCase(builder.charAt(i - 1)) && Character.isUpperCase(builder.charAt(i))
+                    && Character.isLowerCase(builder.charAt(i + 1))) {
+                builder.insert(i++, '_');
+            }
+        }
+        return builder.toString().toLowerCase();
+    }
+}
@@ -0,0 +1,101 @@
+package com.storage.schema;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the indexes the entities declare with the ones the database actually has, so a schema that
+ * missed a migration stops the application at startup instead of turning hot lookups into table scans.
+ */
+@Slf4j
+public class IndexVerifier {
+
+    private final DataSource dataSource;
+    private final List<ExpectedIndex> expectedIndexes;
+
+    public IndexVerifier(DataSource dataSource, List<ExpectedIndex> expectedIndexes) {
+        this.dataSource = dataSource;
+        this.expectedIndexes = expectedIndexes;
+    }
+
+    @PostConstruct
+    public void verify() {
+        List<String> problems = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            Map<String, Map<String, ActualIndex>> tables = new LinkedHashMap<>();
+            for (ExpectedIndex expected : expectedIndexes) {
+                Map<String, ActualIndex> actualIndexes = tables.get(expected.table());
+                if (actualIndexes == null) {
+                    actualIndexes = readIndexes(connection, metaData, expected.table());
+                    tables.put(expected.table(), actualIndexes);
+                }
+                String problem = check(expected, actualIndexes.get(expected.name().toLowerCase(Locale.ROOT)));
+                if (problem != null) {
+                    problems.add(problem);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not read index metadata", e);
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Schema is missing expected indexes, apply the pending migrations:"
+                    + System.lineSeparator() + String.join(System.lineSeparator(), problems));
+        }
+        log.info("Verified {} expected indexes", expectedIndexes.size());
+    }
+
+    private static String check(ExpectedIndex expected, ActualIndex actual) {
+        String description = expected.table() + "." + expected.name() + " " + expected.columns();
+        if (actual == null) {
+            return "missing " + description;
+        }
+        if (!actual.columns().equals(expected.columns())) {
+            return "mismatched " + description + ", found " + actual.columns();
+        }
+        if (expected.unique() && !actual.unique()) {
+            return "not unique " + description;
+        }
+        return null;
+    }
+
+    private static Map<String, ActualIndex> readIndexes(Connection connection, DatabaseMetaData metaData, String table)
+            throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, Boolean> uniqueByName = new LinkedHashMap<>();
+        Map<String, TreeMap<Short, String>> columnsByName = new LinkedHashMap<>();
+        try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName,
+                false, true)) {
+            while (resultSet.next()) {
+                String indexName = resultSet.getString("INDEX_NAME");
+                if (indexName == null || resultSet.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic) {
+                    continue;
+                }
+                String name = indexName.toLowerCase(Locale.ROOT);
+                uniqueByName.put(name, !resultSet.getBoolean("NON_UNIQUE"));
+                columnsByName.computeIfAbsent(name, key -> new TreeMap<>())
+                        .put(resultSet.getShort("ORDINAL_POSITION"),
+                                resultSet.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+            }
+        }
+        Map<String, ActualIndex> indexes = new LinkedHashMap<>();
+        columnsByName.forEach((name, columns) ->
+                indexes.put(name, new ActualIndex(List.copyOf(columns.values()), uniqueByName.get(name))));
+        return indexes;
+    }
+
+    private record ActualIndex(List<String> columns, boolean unique) {
+    }
+}
@@ -0,0 +1,5 @@
+-- Content is written through CompressedTextConverter as format-prefixed bytes. The existing MEDIUMTEXT
+-- rows keep their UTF-8 bytes and are read as plain text since they carry no format byte.
+-- Numbered after the existing migrations: a schema already at V9 must be able to apply it in order.
+
+ALTER TABLE post MODIFY content MEDIUMBLOB;
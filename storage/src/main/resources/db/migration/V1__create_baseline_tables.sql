@@ -0,0 +1,91 @@
+-- The schema as it was before migrations were introduced, existing databases are baselined at this version.
+-- Unique keys were unnamed then, they are added by name in a later version.
+
+CREATE TABLE account
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    created_by BIGINT,
+    created_at DATETIME(6),
+    updated_by BIGINT,
+    updated_at DATETIME(6),
+    email      VARCHAR(255),
+    password   VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE users
+(
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    created_by        BIGINT,
+    created_at        DATETIME(6),
+    updated_by        BIGINT,
+    updated_at        DATETIME(6),
+    account_id        BIGINT,
+    nickname          VARCHAR(50),
+    profile_image_url VARCHAR(512),
+    bio               VARCHAR(300),
+    refresh_token     VARCHAR(600),
+    PRIMARY KEY (id),
+    CONSTRAINT FK_user_account_id FOREIGN KEY (account_id) REFERENCES account (id)
+);
+
+CREATE TABLE admin
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    created_by BIGINT,
+    created_at DATETIME(6),
+    updated_by BIGINT,
+    updated_at DATETIME(6),
+    account_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT FK_admin_account_id FOREIGN KEY (account_id) REFERENCES account (id)
+);
+
+CREATE TABLE post
+(
+    id           BIGINT NOT NULL AUTO_INCREMENT,
+    created_by   BIGINT,
+    created_at   DATETIME(6),
+    updated_by   BIGINT,
+    updated_at   DATETIME(6),
+    user_id      BIGINT,
+    location     VARCHAR(50),
+    title        VARCHAR(255),
+    content      MEDIUMTEXT,
+    views        INTEGER NOT NULL,
+    need_premium BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK_post_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE comment
+(
+    id                BIGINT NOT NULL AUTO_INCREMENT,
+    created_by        BIGINT,
+    created_at        DATETIME(6),
+    updated_by        BIGINT,
+    updated_at        DATETIME(6),
+    user_id           BIGINT,
+    post_id           BIGINT,
+    parent_comment_id BIGINT,
+    content           TEXT,
+    PRIMARY KEY (id),
+    CONSTRAINT FK_comment_user_id FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT FK_comment_post_id FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT FK_comment_parent_comment_id FOREIGN KEY (parent_comment_id) REFERENCES comment (id)
+);
+
+CREATE TABLE product
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    created_by BIGINT,
+    created_at DATETIME(6),
+    updated_by BIGINT,
+    updated_at DATETIME(6),
+    user_id    BIGINT,
+    level      VARCHAR(30),
+    start_at   DATETIME(6),
+    end_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT FK_product_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
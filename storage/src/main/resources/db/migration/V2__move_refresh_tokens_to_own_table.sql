@@ -0,0 +1,24 @@
+-- Refresh tokens are stored hashed, one row per issued token. Tokens in the old column are dropped,
+-- their holders log in again.
+
+CREATE TABLE refresh_token
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    created_by BIGINT,
+    created_at DATETIME(6),
+    updated_by BIGINT,
+    updated_at DATETIME(6),
+    user_id    BIGINT,
+    token_hash CHAR(64),
+    family_id  CHAR(36),
+    expires_at DATETIME(6),
+    used       BIT NOT NULL,
+    revoked    BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT FK_refresh_token_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE UNIQUE INDEX UK_refresh_token_token_hash ON refresh_token (token_hash);
+CREATE INDEX IDX_refresh_token_family_id ON refresh_token (family_id);
+
+ALTER TABLE users DROP COLUMN refresh_token;
@@ -0,0 +1,14 @@
+-- Ids are time ordered and assigned by the application, so inserts can be batched.
+-- The referencing foreign keys keep the same BIGINT type, the checks are only paused for the column changes.
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+ALTER TABLE account MODIFY id BIGINT NOT NULL;
+ALTER TABLE users MODIFY id BIGINT NOT NULL;
+ALTER TABLE admin MODIFY id BIGINT NOT NULL;
+ALTER TABLE post MODIFY id BIGINT NOT NULL;
+ALTER TABLE comment MODIFY id BIGINT NOT NULL;
+ALTER TABLE product MODIFY id BIGINT NOT NULL;
+ALTER TABLE refresh_token MODIFY id BIGINT NOT NULL;
+
+SET FOREIGN_KEY_CHECKS = 1;
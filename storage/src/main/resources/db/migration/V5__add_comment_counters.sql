@@ -0,0 +1,17 @@
+-- Comment counts per post and reply counts per comment, backfilled from the existing comments.
+
+ALTER TABLE post ADD COLUMN comment_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE comment ADD COLUMN reply_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE post p
+    JOIN (SELECT post_id, COUNT(*) AS counted
+          FROM comment
+          GROUP BY post_id) c ON c.post_id = p.id
+SET p.comment_count = c.counted;
+
+UPDATE comment p
+    JOIN (SELECT parent_comment_id, COUNT(*) AS counted
+          FROM comment
+          WHERE parent_comment_id IS NOT NULL
+          GROUP BY parent_comment_id) c ON c.parent_comment_id = p.id
+SET p.reply_count = c.counted;
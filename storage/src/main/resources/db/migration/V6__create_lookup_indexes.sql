@@ -0,0 +1,15 @@
+-- Every index here is also declared on its entity, the application refuses to start while one is missing.
+
+-- Feed pages are read newest first and never touch the table rows, the indexes cover every summary column.
+CREATE INDEX IDX_post_feed
+    ON post (created_at, id, user_id, location, title, views, comment_count, need_premium);
+CREATE INDEX IDX_post_location_feed
+    ON post (location, created_at, id, user_id, title, views, comment_count, need_premium);
+
+-- A post's comments are loaded in one query ordered by id, the tree is assembled in memory.
+CREATE INDEX IDX_comment_post_id ON comment (post_id, id);
+
+CREATE UNIQUE INDEX UK_account_email ON account (email);
+CREATE UNIQUE INDEX UK_users_account_id ON users (account_id);
+CREATE UNIQUE INDEX UK_admin_account_id ON admin (account_id);
+CREATE UNIQUE INDEX UK_product_user_id ON product (user_id);
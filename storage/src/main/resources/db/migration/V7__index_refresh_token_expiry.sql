@@ -0,0 +1,2 @@
+-- Expired refresh tokens are purged periodically by expiry time.
+CREATE INDEX IDX_refresh_token_expires_at ON refresh_token (expires_at);
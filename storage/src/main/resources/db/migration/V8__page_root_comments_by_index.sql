@@ -0,0 +1,4 @@
+-- Root comments are paged per post by id, replies are looked up by parent through the foreign key index.
+-- The new index leads with post_id as well, so it can take over the foreign key before the old one is dropped.
+CREATE INDEX IDX_comment_post_root ON comment (post_id, parent_comment_id, id);
+DROP INDEX IDX_comment_post_id ON comment;
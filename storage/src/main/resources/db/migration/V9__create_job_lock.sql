@@ -0,0 +1,9 @@
+-- One row per scheduled job that must run on a single instance, created by the first instance that runs it.
+
+CREATE TABLE job_lock
+(
+    name         VARCHAR(64) NOT NULL,
+    locked_until DATETIME(6),
+    locked_by    VARCHAR(64),
+    PRIMARY KEY (name)
+);
@@ -0,0 +1,68 @@
+package com.storage.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class ConnectionLimitingDataSourceTest {
+
+    private Connection target;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        DataSource pool = mock(DataSource.class);
+        target = mock(Connection.class);
+        given(pool.getConnection()).willReturn(target);
+        dataSource = new ConnectionLimitingDataSource(pool, 1, Duration.ofMillis(10L));
+    }
+
+    @Test
+    @DisplayName("연결을 여러 번 닫아도 허용량은 한 번만 반환된다")
+    void releasePermitOnce() throws SQLException {
+        // given
+        Connection connection = dataSource.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("프록시의 동등성과 해시는 원본 연결이 아닌 프록시 자신을 기준으로 한다")
+    void compareByProxyIdentity() throws SQLException {
+        // when
+        Connection connection = dataSource.getConnection();
+
+        // then
+        assertThat(connection).isEqualTo(connection);
+        assertThat(connection).isNotEqualTo(target);
+        assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+    }
+
+    @Test
+    @DisplayName("Connection 으로 언래핑하면 원본 연결 대신 프록시가 반환된다")
+    void unwrapToProxy() throws SQLException {
+        // when
+        Connection connection = dataSource.getConnection();
+
+        // then
+        assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+        assertThat(connection.isWrapperFor(Connection.class)).isTrue();
+        then(target).should(never()).unwrap(Connection.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.storage.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.CacheManager;
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecondLevelCacheRegionsTest {
+
+    private CacheManager cacheManager;
+
+    @AfterEach
+    void tearDown() {
+        if (cacheManager != null) {
+            cacheManager.close();
+        }
+    }
+
+    @Test
+    @DisplayName("설정된 영역마다 크기 제한과 만료 시간이 적용된 캐시가 만들어진다")
+    void createBoundedRegions() {
+        // given
+        SecondLevelCacheProperties.Region region = new SecondLevelCacheProperties.Region();
+        region.setExpireAfterWrite(Duration.ofMinutes(5));
+        region.setMaximumSize(100);
+
+        // when
+        cacheManager = SecondLevelCacheRegions.createCacheManager(Map.of("user", region));
+
+        // then
+        CaffeineConfiguration<?, ?> configuration = configurationOf("user");
+        assertThat(configuration.getMaximumSize()).isEqualTo(OptionalLong.of(100));
+        assertThat(configuration.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(5).toNanos()));
+    }
+
+    @Test
+    @DisplayName("호출마다 서로 다른 캐시 매니저가 만들어진다")
+    void createIndependentManagers() {
+        // given
+        cacheManager = SecondLevelCacheRegions.createCacheManager(Map.of());
+
+        // when
+        try (CacheManager other = SecondLevelCacheRegions.createCacheManager(Map.of())) {
+
+            // then
+            assertThat(other.getURI()).isNotEqualTo(cacheManager.getURI());
+        }
+    }
+
+    private CaffeineConfiguration<?, ?> configurationOf(String region) {
+        return cacheManager.getCache(region).getConfiguration(CaffeineConfiguration.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.storage.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressedTextConverterTest {
+
+    private final CompressedTextConverter converter = new CompressedTextConverter();
+
+    @Test
+    @DisplayName("기준보다 짧은 내용은 압축하지 않고 저장한다")
+    void shortTextIsStoredPlain() {
+        // given
+        String content = "싱가폴 여행 후기";
+
+        // when
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        // then
+        assertThat(stored[0]).isEqualTo(CompressedTextConverter.FORMAT_PLAIN);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("기준 이상의 긴 내용은 압축해서 저장하고 그대로 복원한다")
+    void longTextIsCompressed() {
+        // given
+        String content = "마리나 베이 샌즈의 야경은 정말 아름다웠다. ".repeat(200);
+
+        // when
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        // then
+        assertThat(stored[0]).isEqualTo(CompressedTextConverter.FORMAT_DEFLATE);
+        assertThat(stored.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 10);
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("압축해도 작아지지 않으면 원문으로 저장한다")
+    void incompressibleTextIsStoredPlain() {
+        // given
+        StringBuilder builder = new StringBuilder();
+        Random random = new Random(42L);
+        while (builder.length() < CompressedTextConverter.THRESHOLD_BYTES * 2) {
+            builder.appendCodePoint(0xAC00 + random.nextInt(11172));
+        }
+        String content = builder.toString();
+
+        // when
+        byte[] stored = converter.convertToDatabaseColumn(content);
+
+        // then
+        assertThat(converter.convertToEntityAttribute(stored)).isEqualTo(content);
+    }
+
+    @Test
+    @DisplayName("형식 바이트가 없는 기존 행은 UTF-8 원문으로 읽는다")
+    void legacyRowIsReadAsText() {
+        // given
+        byte[] legacy = "기존 게시물 내용".getBytes(StandardCharsets.UTF_8);
+
+        // when && then
+        assertThat(converter.convertToEntityAttribute(legacy)).isEqualTo("기존 게시물 내용");
+    }
+
+    @Test
+    @DisplayName("null은 null로 변환된다")
+    void nullStaysNull() {
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+}
@@ -0,0 +1,38 @@
+package com.storage.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdGeneratorTest {
+
+    @Test
+    @DisplayName("노드 id가 설정되지 않으면 기본값 없이 예외가 발생한다")
+    void missingNodeId() {
+        // when && then
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNodeId(null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNodeId(" "))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 노드 id는 예외가 발생한다")
+    void nonNumericNodeId() {
+        // when && then
+        assertThatThrownBy(() -> TimeOrderedIdGenerator.parseNodeId("node-1"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("설정된 노드 id를 숫자로 읽는다")
+    void parseNodeId() {
+        // when
+        int nodeId = TimeOrderedIdGenerator.parseNodeId("7");
+
+        // then
+        assertThat(nodeId).isEqualTo(7);
+    }
+}
@@ -0,0 +1,114 @@
+package com.storage.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeOrderedIdSequenceTest {
+
+    private static final long NOW = TimeOrderedIdSequence.EPOCH.toEpochMilli() + 1_000L;
+
+    @Test
+    @DisplayName("id는 시각, 노드, 순번 순서로 구성된다")
+    void idLayout() {
+        // given
+        TimeOrderedIdSequence sequence = new TimeOrderedIdSequence(5, () -> NOW);
+
+        // when
+        long first = sequence.next();
+        long second = sequence.next();
+
+        // then
+        assertThat(first >>> 22).isEqualTo(1_000L);
+        assertThat((first >>> 12) & TimeOrderedIdSequence.MAX_NODE_ID).isEqualTo(5L);
+        assertThat(first & 0xFFF).isZero();
+        assertThat(second).isEqualTo(first + 1);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 id는 계속 증가한다")
+    void increasingWhenClockGoesBack() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedIdSequence sequence = new TimeOrderedIdSequence(0, clock::get);
+        long before = sequence.next();
+
+        // when
+        clock.set(NOW - 500L);
+        long after = sequence.next();
+
+        // then
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 순번을 다 쓰면 다음 밀리초로 넘어간다")
+    void sequenceOverflowCarriesIntoTimestamp() {
+        // given
+        TimeOrderedIdSequence sequence = new TimeOrderedIdSequence(0, () -> NOW);
+        for (int i = 0; i < 4096; i++) {
+            sequence.next();
+        }
+
+        // when
+        long id = sequence.next();
+
+        // then
+        assertThat(id >>> 22).isEqualTo(1_001L);
+        assertThat(id & 0xFFF).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 id가 중복되지 않는다")
+    void uniqueUnderConcurrency() throws InterruptedException {
+        // given
+        TimeOrderedIdSequence sequence = new TimeOrderedIdSequence(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(sequence.next());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("노드 id가 범위를 벗어나면 예외가 발생한다")
+    void nodeIdOutOfRange() {
+        assertThatThrownBy(() -> new TimeOrderedIdSequence(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("특정 시각의 최소 id는 그 시각 이후 어느 노드가 만든 id보다도 크지 않다")
+    void lowestIdAt() {
+        // given
+        TimeOrderedIdSequence sequence = new TimeOrderedIdSequence(TimeOrderedIdSequence.MAX_NODE_ID, () -> NOW);
+
+        // when
+        long lowest = TimeOrderedIdSequence.lowestIdAt(Instant.ofEpochMilli(NOW));
+
+        // then
+        assertThat(lowest).isLessThanOrEqualTo(sequence.next());
+        assertThat(lowest).isGreaterThan(new TimeOrderedIdSequence(TimeOrderedIdSequence.MAX_NODE_ID, () -> NOW - 1L).next());
+    }
+}
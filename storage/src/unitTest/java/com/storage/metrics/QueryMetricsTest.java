@@ -0,0 +1,96 @@
+package com.storage.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final QueryMetrics queryMetrics = new QueryMetrics(Duration.ofMillis(100));
+
+    @AfterEach
+    void tearDown() {
+        QueryContext.end();
+    }
+
+    @Test
+    @DisplayName("요청 중 실행된 쿼리 수와 실행 시간, 느린 쿼리 수가 요청 통계에 쌓인다")
+    void recordRequestStats() {
+        // given
+        QueryStats stats = QueryContext.begin();
+
+        // when
+        queryMetrics.record("select 1", Duration.ofMillis(10).toNanos());
+        queryMetrics.record("select 2", Duration.ofMillis(150).toNanos());
+
+        // then
+        assertThat(stats.getStatements()).isEqualTo(2);
+        assertThat(stats.getJdbcNanos()).isEqualTo(Duration.ofMillis(160).toNanos());
+        assertThat(stats.getSlowStatements()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쿼리 실행 시간은 실행 중인 리포지토리 메서드로 태그된다")
+    void recordTimerTaggedByRepositoryMethod() {
+        // given
+        queryMetrics.bindTo(registry);
+        String previous = QueryContext.enterRepository("PostRepository.findFeed");
+
+        // when
+        try {
+            queryMetrics.record("select 1", Duration.ofMillis(150).toNanos());
+        } finally {
+            QueryContext.exitRepository(previous);
+        }
+        queryMetrics.record("select 2", Duration.ofMillis(10).toNanos());
+
+        // then
+        assertThat(registry.get("storage.query").tag("repository", "PostRepository.findFeed").timer().count())
+                .isEqualTo(1L);
+        assertThat(registry.get("storage.query.slow").tag("repository", "PostRepository.findFeed").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("storage.query").tag("repository", "none").timer().count()).isEqualTo(1L);
+        assertThat(QueryContext.repositoryMethod()).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 리포지토리 메서드의 쿼리는 같은 타이머에 누적된다")
+    void recordReusesTimerPerRepositoryMethod() {
+        // given
+        queryMetrics.bindTo(registry);
+        String previous = QueryContext.enterRepository("PostRepository.findFeed");
+
+        // when
+        try {
+            queryMetrics.record("select 1", Duration.ofMillis(10).toNanos());
+            queryMetrics.record("select 1", Duration.ofMillis(20).toNanos());
+        } finally {
+            QueryContext.exitRepository(previous);
+        }
+
+        // then
+        assertThat(registry.get("storage.query").timers()).hasSize(1);
+        assertThat(registry.get("storage.query").tag("repository", "PostRepository.findFeed").timer().count())
+                .isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("진행 중인 요청이 없으면 요청 통계 없이 기록된다")
+    void recordWithoutRequest() {
+        // given
+        queryMetrics.bindTo(registry);
+
+        // when
+        queryMetrics.record("select 1", 1L);
+
+        // then
+        assertThat(QueryContext.current()).isNull();
+        assertThat(registry.get("storage.query").timer().count()).isEqualTo(1L);
+    }
+}
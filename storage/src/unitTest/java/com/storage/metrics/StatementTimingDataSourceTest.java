@@ -0,0 +1,83 @@
+package com.storage.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class StatementTimingDataSourceTest {
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PreparedStatement preparedStatement;
+    @Mock
+    private Statement statement;
+    @Mock
+    private ResultSet resultSet;
+
+    private final QueryMetrics queryMetrics = new QueryMetrics(Duration.ofSeconds(1));
+
+    @AfterEach
+    void tearDown() {
+        QueryContext.end();
+    }
+
+    @Test
+    @DisplayName("준비된 문장과 일반 문장의 실행이 모두 기록된다")
+    void recordExecutions() throws SQLException {
+        // given
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.prepareStatement("select * from post where id = ?")).willReturn(preparedStatement);
+        given(preparedStatement.executeQuery()).willReturn(resultSet);
+        given(connection.createStatement()).willReturn(statement);
+        QueryStats stats = QueryContext.begin();
+        StatementTimingDataSource timingDataSource = new StatementTimingDataSource(dataSource, queryMetrics);
+
+        // when
+        try (Connection timed = timingDataSource.getConnection()) {
+            PreparedStatement prepared = timed.prepareStatement("select * from post where id = ?");
+            prepared.setLong(1, 1L);
+            assertThat(prepared.executeQuery()).isSameAs(resultSet);
+            timed.createStatement().executeUpdate("update post set views = views + 1");
+        }
+
+        // then
+        assertThat(stats.getStatements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("실행이 실패해도 원래 예외를 그대로 던지고 기록된다")
+    void recordFailedExecution() throws SQLException {
+        // given
+        given(dataSource.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.execute("select broken")).willThrow(new SQLException("syntax error"));
+        QueryStats stats = QueryContext.begin();
+        StatementTimingDataSource timingDataSource = new StatementTimingDataSource(dataSource, queryMetrics);
+        Statement timed = timingDataSource.getConnection().createStatement();
+
+        // when && then
+        assertThatThrownBy(() -> timed.execute("select broken"))
+                .isInstanceOf(SQLException.class)
+                .hasMessage("syntax error");
+        assertThat(stats.getStatements()).isEqualTo(1);
+    }
+}
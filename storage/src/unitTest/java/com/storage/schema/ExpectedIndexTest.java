@@ -0,0 +1,56 @@
+package com.storage.schema;
+
+import com.storage.entity.BaseEntity;
+import com.storage.entity.Post;
+import com.storage.entity.RefreshToken;
+import com.storage.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpectedIndexTest {
+
+    @Test
+    @DisplayName("엔티티에 선언된 인덱스의 테이블과 컬럼 이름이 물리 이름으로 변환된다")
+    void translateToPhysicalNames() {
+        // when
+        List<ExpectedIndex> indexes = ExpectedIndex.of(RefreshToken.class);
+
+        // then
+        assertThat(indexes).containsExactly(
+                new ExpectedIndex("refresh_token", "UK_refresh_token_token_hash", List.of("token_hash"), true),
+                new ExpectedIndex("refresh_token", "IDX_refresh_token_family_id", List.of("family_id"), false),
+                new ExpectedIndex("refresh_token", "IDX_refresh_token_expires_at", List.of("expires_at"), false));
+    }
+
+    @Test
+    @DisplayName("복합 인덱스는 선언된 컬럼 순서를 유지한다")
+    void keepColumnOrder() {
+        // when
+        List<ExpectedIndex> indexes = ExpectedIndex.of(Post.class);
+
+        // then
+        assertThat(indexes.get(0).columns()).containsExactly(
+                "created_at", "id", "user_id", "location", "title", "views", "comment_count", "need_premium");
+    }
+
+    @Test
+    @DisplayName("테이블 이름이 지정된 엔티티는 지정된 이름을 사용한다")
+    void useDeclaredTableName() {
+        // when
+        List<ExpectedIndex> indexes = ExpectedIndex.of(User.class);
+
+        // then
+        assertThat(indexes).extracting(ExpectedIndex::table).containsOnly("users");
+    }
+
+    @Test
+    @DisplayName("인덱스가 선언되지 않은 타입은 빈 목록을 반환한다")
+    void noIndexes() {
+        // when && then
+        assertThat(ExpectedIndex.of(BaseEntity.class)).isEmpty();
+    }
+}
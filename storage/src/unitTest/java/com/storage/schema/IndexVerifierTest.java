@@ -0,0 +1,84 @@
+package com.storage.schema;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IndexVerifierTest {
+
+    private final DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:index-verifier;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE TABLE post (id BIGINT NOT NULL, created_at DATETIME(6), location VARCHAR(50), "
+                + "PRIMARY KEY (id))");
+        jdbcTemplate.execute("CREATE INDEX IDX_post_feed ON post (created_at, id)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX UK_post_location ON post (location)");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE post");
+    }
+
+    @Test
+    @DisplayName("기대한 인덱스가 모두 있으면 검증을 통과한다")
+    void verify() {
+        // given
+        IndexVerifier indexVerifier = new IndexVerifier(dataSource, List.of(
+                new ExpectedIndex("post", "IDX_post_feed", List.of("created_at", "id"), false),
+                new ExpectedIndex("post", "UK_post_location", List.of("location"), true)));
+
+        // when && then
+        assertThatCode(indexVerifier::verify).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("기대한 인덱스가 없으면 시작이 실패한다")
+    void failOnMissingIndex() {
+        // given
+        IndexVerifier indexVerifier = new IndexVerifier(dataSource, List.of(
+                new ExpectedIndex("post", "IDX_post_location_feed", List.of("location", "created_at"), false)));
+
+        // when && then
+        assertThatThrownBy(indexVerifier::verify)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("missing post.IDX_post_location_feed");
+    }
+
+    @Test
+    @DisplayName("인덱스 컬럼 순서가 다르면 시작이 실패한다")
+    void failOnMismatchedColumns() {
+        // given
+        IndexVerifier indexVerifier = new IndexVerifier(dataSource, List.of(
+                new ExpectedIndex("post", "IDX_post_feed", List.of("id", "created_at"), false)));
+
+        // when && then
+        assertThatThrownBy(indexVerifier::verify)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("mismatched post.IDX_post_feed");
+    }
+
+    @Test
+    @DisplayName("유니크 인덱스가 유니크하지 않으면 시작이 실패한다")
+    void failOnNonUniqueIndex() {
+        // given
+        IndexVerifier indexVerifier = new IndexVerifier(dataSource, List.of(
+                new ExpectedIndex("post", "IDX_post_feed", List.of("created_at", "id"), true)));
+
+        // when && then
+        assertThatThrownBy(indexVerifier::verify)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not unique post.IDX_post_feed");
+    }
+}
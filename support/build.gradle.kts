@@ -1,3 +1,4 @@
 dependencies {
-
-}
\ No newline at end of file
+    implementation("org.springframework.boot:spring-boot-starter")
+    implementation("io.micrometer:micrometer-core")
+}